@@ -0,0 +1,48 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+
+/**
+ * Measures replacing the whole content of an {@code AddressBook} with an address book of {@link #size} persons.
+ * Checking the persons for duplicates used to compare every pair of them, which took minutes at 100,000 persons.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final AddressBook addressBook = new AddressBook();
+    private AddressBook newData;
+
+    @Setup
+    public void setUp() {
+        newData = SyntheticDataUtil.getSyntheticAddressBook(size);
+    }
+
+    @Benchmark
+    public AddressBook resetData() {
+        addressBook.resetData(newData);
+        return addressBook;
+    }
+
+}
@@ -0,0 +1,31 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Helper methods shared by the benchmarks.
+ */
+public class BenchmarkUtil {
+
+    private BenchmarkUtil() {} // prevents instantiation
+
+    /**
+     * Deletes {@code folder} and everything in it.
+     */
+    public static void deleteRecursively(Path folder) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> walk = Files.walk(folder)) {
+            paths = walk.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path path : paths) {
+            Files.delete(path);
+        }
+    }
+
+}
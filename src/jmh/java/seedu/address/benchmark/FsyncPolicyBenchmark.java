@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Compares saving a typical address book under each {@link FsyncPolicy}.
+ * Sampled rather than averaged, as the cost of {@code BATCHED} is in the occasional forced save.
+ * The numbers only mean something when the temporary folder is on a real disk.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FsyncPolicyBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({"ALWAYS", "BATCHED", "NEVER"})
+    public FsyncPolicy fsyncPolicy;
+
+    private Path folder;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("fsyncPolicyBenchmark");
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(SIZE);
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), fsyncPolicy);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkUtil.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public JsonAddressBookStorage save() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+
+}
@@ -0,0 +1,70 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Measures reading and saving an address book of {@link #size} persons as JSON.
+ * Saves are not forced to disk, so that they measure serialization rather than the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private Path folder;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("jsonStorageBenchmark");
+        addressBook = SyntheticDataUtil.getSyntheticAddressBook(size);
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"), FsyncPolicy.NEVER);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        BenchmarkUtil.deleteRecursively(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public JsonAddressBookStorage save() throws IOException {
+        storage.saveAddressBook(addressBook);
+        return storage;
+    }
+
+}
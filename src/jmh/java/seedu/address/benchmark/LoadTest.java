@@ -0,0 +1,135 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Histogram;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a stream of commands through {@code LogicManager} on a generated address book, without the GUI, and
+ * reports their throughput and latency. Data is saved to a temporary folder, which is deleted afterwards.
+ *
+ * Options, all optional:
+ * {@code --persons N} (default 10000), {@code --groups M} (default one per 20 persons),
+ * {@code --weeks W} weeks of attendance already marked (default 6), {@code --seed S},
+ * {@code --commands C} commands to generate (default 10000), and {@code --script FILE} to replay the commands in
+ * FILE instead, one per line, skipping blank lines and lines starting with {@code #}.
+ */
+public class LoadTest {
+
+    private static final String USAGE = "Usage: LoadTest [--persons N] [--groups M] [--weeks W] [--seed S] "
+            + "[--commands C | --script FILE]";
+
+    private LoadTest() {} // prevents instantiation
+
+    /**
+     * Runs the load test with the options in {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        int personCount = Integer.parseInt(options.getOrDefault("persons", "10000"));
+        int groupCount = options.containsKey("groups") ? Integer.parseInt(options.get("groups"))
+                : SyntheticDataUtil.getDefaultGroupCount(personCount);
+        int weeksMarked = Integer.parseInt(options.getOrDefault("weeks",
+                String.valueOf(SyntheticDataUtil.DEFAULT_WEEKS_MARKED)));
+        long seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(SyntheticDataUtil.DEFAULT_SEED)));
+
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(personCount, groupCount, weeksMarked,
+                seed);
+        List<String> commands = options.containsKey("script")
+                ? readScript(Paths.get(options.get("script")))
+                : LoadTestScript.generate(addressBook,
+                        Integer.parseInt(options.getOrDefault("commands", "10000")), seed);
+
+        Path folder = Files.createTempDirectory("loadTest");
+        try {
+            run(addressBook, commands, folder);
+        } finally {
+            BenchmarkUtil.deleteRecursively(folder);
+        }
+    }
+
+    private static void run(AddressBook addressBook, List<String> commands, Path folder) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(folder.resolve("addressbook.json"));
+        userPrefs.setCommandMetricsEnabled(true);
+        userPrefs.setCommandMetricsLogIntervalSeconds(0);
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(userPrefs.getAddressBookFilePath()),
+                new JsonUserPrefsStorage(folder.resolve("preferences.json")));
+        Logic logic = new LogicManager(new ModelManager(addressBook, userPrefs), storage);
+
+        Histogram latencies = new Histogram();
+        int failedCount = 0;
+        long start = System.nanoTime();
+        for (String command : commands) {
+            long commandStart = System.nanoTime();
+            try {
+                logic.execute(command);
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println(String.format("Replayed %d commands (%d failed) on %d persons in %.2f s: %.0f commands/s",
+                commands.size(), failedCount, addressBook.getPersonList().size(), elapsed / 1e9,
+                commands.size() / (elapsed / 1e9)));
+        System.out.println(String.format("Latency in microseconds: p50 %d, p90 %d, p99 %d, max %d",
+                toMicros(latencies.getPercentile(50)), toMicros(latencies.getPercentile(90)),
+                toMicros(latencies.getPercentile(99)), toMicros(latencies.getMax())));
+        try {
+            System.out.println(logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            throw new AssertionError("The stats command cannot fail", e);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i += 2) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException(USAGE);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    private static List<String> readScript(Path script) throws IOException {
+        return Files.readAllLines(script).stream()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                .collect(Collectors.toList());
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+}
@@ -0,0 +1,132 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Generates a stream of commands resembling a tutor's use of the app during a semester: mostly marking
+ * attendance, looking students up and filtering by group, with some edits, additions and deletions.
+ * The same seed always generates the same commands for the same address book.
+ *
+ * Commands that refer to persons by index are preceded by {@code list} when needed, so that the indices are valid
+ * as long as the commands are replayed in order on the address book they were generated from.
+ */
+public class LoadTestScript {
+
+    private final List<Person> persons;
+    private final List<Group> groups;
+    private final Random random;
+    private final List<String> commands = new ArrayList<>();
+    private int personCount;
+    private boolean isShowingAll = true;
+    private boolean wasLastCommandAdd = false;
+    private int addedCount = 0;
+
+    private LoadTestScript(ReadOnlyAddressBook addressBook, long seed) {
+        persons = addressBook.getPersonList();
+        groups = addressBook.getGroupList();
+        random = new Random(seed);
+        personCount = persons.size();
+    }
+
+    /**
+     * Returns {@code count} commands to be replayed on {@code addressBook}.
+     */
+    public static List<String> generate(ReadOnlyAddressBook addressBook, int count, long seed) {
+        if (addressBook.getPersonList().isEmpty() || addressBook.getGroupList().isEmpty()) {
+            throw new IllegalArgumentException("The address book must have at least one person and one group");
+        }
+        LoadTestScript script = new LoadTestScript(addressBook, seed);
+        while (script.commands.size() < count) {
+            script.addCommand();
+        }
+        return script.commands.subList(0, count);
+    }
+
+    private void addCommand() {
+        int roll = random.nextInt(100);
+        boolean isAdd = false;
+        if (roll < 35) {
+            addMark();
+        } else if (roll < 45) {
+            addEdit();
+        } else if (roll < 58) {
+            add("find " + getRandomPerson().getName().fullName.split(" ")[0]);
+            isShowingAll = false;
+        } else if (roll < 71) {
+            add("filter " + getRandomGroup().groupName);
+            isShowingAll = false;
+        } else if (roll < 78) {
+            showAll();
+        } else if (roll < 88) {
+            addAdd();
+            isAdd = true;
+        } else if (roll < 95) {
+            addDelete();
+        } else if (wasLastCommandAdd) {
+            add("undo");
+            personCount--;
+        } else {
+            add("stats");
+        }
+        wasLastCommandAdd = isAdd;
+    }
+
+    private void addMark() {
+        showAll();
+        int index = random.nextInt(persons.size());
+        Group group = persons.get(index).getGroups().iterator().next();
+        int week = 1 + random.nextInt(Group.DEFAULT_WEEK_COUNT);
+        String attendance = random.nextInt(10) < 9 ? Group.PRESENT : Group.ABSENT;
+        add(String.format("mark %d g/%s w/%d a/%s", index + 1, group.groupName, week, attendance));
+    }
+
+    private void addEdit() {
+        showAll();
+        add(String.format("edit %d p/%d", 1 + random.nextInt(persons.size()), 80_000_000 + random.nextInt(20_000_000)));
+    }
+
+    private void addAdd() {
+        addedCount++;
+        add(String.format("add n/Load Test %d p/%d e/loadtest%d@example.com y/1 m/Computer Science tg/loadtest_%d "
+                + "g/%s", addedCount, 80_000_000 + addedCount, addedCount, addedCount, getRandomGroup().groupName));
+        personCount++;
+    }
+
+    /**
+     * Deletes the last person added, as deleting generated persons would shift the indices of the others.
+     */
+    private void addDelete() {
+        showAll();
+        if (personCount == persons.size()) {
+            return;
+        }
+        add("delete " + personCount);
+        personCount--;
+    }
+
+    private void showAll() {
+        if (!isShowingAll) {
+            add("list");
+            isShowingAll = true;
+        }
+    }
+
+    private void add(String command) {
+        commands.add(command);
+    }
+
+    private Person getRandomPerson() {
+        return persons.get(random.nextInt(persons.size()));
+    }
+
+    private Group getRandomGroup() {
+        return groups.get(random.nextInt(groups.size()));
+    }
+
+}
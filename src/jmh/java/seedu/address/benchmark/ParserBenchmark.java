@@ -0,0 +1,84 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MAJOR;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_YEAR;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures parsing a typical input of every command word, and tokenizing the arguments of the longest one.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/John Doe p/98765432 e/johnd@example.com y/2 m/Computer Science "
+            + "tg/johndoe r/Very quiet student g/TUT04 g/LAB10";
+
+    @Param({
+        "add" + ADD_ARGUMENTS,
+        "edit 1 n/John p/91234567 e/john01@example.com",
+        "delete 3",
+        "addgroup g/TUT04",
+        "editgroup g/TUT04 tg/https://t.me/tut04group",
+        "deletegroup g/LAB10",
+        "mark 1 g/TUT04 w/3 a/P",
+        "markall g/TUT04 w/3 a/P x/2 x/Alex Yeoh",
+        "find alice bob charlie",
+        "filter LAB10 TUT04",
+        "mail LAB10 TUT04",
+        "mailtg g/TUT04",
+        "import data/students.csv",
+        "list",
+        "clear",
+        "undo",
+        "redo",
+        "stats",
+        "help",
+        "exit"
+    })
+    public String commandText;
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        return parser.parseCommand(commandText);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_YEAR,
+                PREFIX_MAJOR, PREFIX_TELEGRAM, PREFIX_REMARK, PREFIX_GROUP, PREFIX_WEEK, PREFIX_ATTENDANCE);
+    }
+
+}
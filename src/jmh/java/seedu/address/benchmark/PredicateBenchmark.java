@@ -0,0 +1,58 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.group.GroupContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures filtering {@link #size} persons by name, as {@code find} does, and by group, as {@code filter} does.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PredicateBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final NameContainsKeywordsPredicate namePredicate =
+            new NameContainsKeywordsPredicate(Arrays.asList("alex", "bernice", "roy"));
+    private final GroupContainsKeywordsPredicate groupPredicate =
+            new GroupContainsKeywordsPredicate(Arrays.asList("TUT01", "LAB02"));
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticDataUtil.getSyntheticAddressBook(size).getPersonList();
+    }
+
+    @Benchmark
+    public long filterByName() {
+        return persons.stream().filter(namePredicate).count();
+    }
+
+    @Benchmark
+    public long filterByGroup() {
+        return persons.stream().filter(groupPredicate).count();
+    }
+
+}
@@ -0,0 +1,151 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.Year;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates address books of any size from the sample data, for benchmarks and load tests.
+ * The same seed always generates the same address book.
+ *
+ * Attendance is generated as in a typical class: most students attend nearly every week, some miss about one week
+ * in four, and a few miss more often than not.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final int DEFAULT_WEEKS_MARKED = 6;
+
+    private static final String[] GROUP_PREFIXES = {"TUT", "LAB", "REC"};
+    private static final int MAX_GROUP_COUNT = GROUP_PREFIXES.length * 99;
+    private static final String[] MAJORS = {"Computer Science", "Business Analytics", "Computer Engineering",
+        "Information Systems", "Information Security"};
+    // Each student attends with one of these rates, chosen with the matching weight out of 100.
+    private static final double[] ATTENDANCE_RATES = {0.95, 0.75, 0.4};
+    private static final int[] ATTENDANCE_RATE_WEIGHTS = {70, 20, 10};
+
+    /**
+     * Returns {@code count} groups named TUT01, LAB01, REC01, TUT02 and so on.
+     */
+    public static Group[] getSyntheticGroups(int count) {
+        if (count > MAX_GROUP_COUNT) {
+            throw new IllegalArgumentException("At most " + MAX_GROUP_COUNT + " groups can be named");
+        }
+        Group[] groups = new Group[count];
+        for (int i = 0; i < count; i++) {
+            groups[i] = new Group(String.format("%s%02d", GROUP_PREFIXES[i % GROUP_PREFIXES.length],
+                    i / GROUP_PREFIXES.length + 1));
+        }
+        return groups;
+    }
+
+    /**
+     * Returns {@code count} persons with distinct names, each in one or two of {@code groups} with the first
+     * {@code weeksMarked} weeks of attendance marked.
+     * Their names are the sample persons' names followed by a number.
+     */
+    public static Person[] getSyntheticPersons(int count, Group[] groups, int weeksMarked, long seed) {
+        if (weeksMarked < 0 || weeksMarked > Group.DEFAULT_WEEK_COUNT) {
+            throw new IllegalArgumentException("Weeks marked must be between 0 and " + Group.DEFAULT_WEEK_COUNT);
+        }
+        Random random = new Random(seed);
+        Person[] samples = getSamplePersons();
+        Person[] persons = new Person[count];
+        for (int i = 0; i < count; i++) {
+            Person sample = samples[i % samples.length];
+            String handle = sample.getTelegram().value + "_" + i;
+            persons[i] = new Person(new Name(sample.getName().fullName + " " + i),
+                    new Phone(String.valueOf(80_000_000 + random.nextInt(20_000_000))),
+                    new Email(handle + "@example.com"),
+                    new Year(String.valueOf(1 + random.nextInt(5))),
+                    new Telegram(handle),
+                    new Major(MAJORS[random.nextInt(MAJORS.length)]),
+                    sample.getRemark(),
+                    getRandomGroups(groups, weeksMarked, random));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons spread over {@code groupCount} groups, with the first
+     * {@code weeksMarked} weeks of attendance marked.
+     */
+    public static AddressBook getSyntheticAddressBook(int personCount, int groupCount, int weeksMarked, long seed) {
+        Group[] groups = getSyntheticGroups(groupCount);
+        AddressBook addressBook = new AddressBook();
+        for (Person person : getSyntheticPersons(personCount, groups, weeksMarked, seed)) {
+            addressBook.addPerson(person);
+        }
+        for (Group group : groups) {
+            addressBook.addGroup(group);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns the default address book of {@code personCount} persons, spread over about one group per 20 persons.
+     */
+    public static AddressBook getSyntheticAddressBook(int personCount) {
+        return getSyntheticAddressBook(personCount, getDefaultGroupCount(personCount), DEFAULT_WEEKS_MARKED,
+                DEFAULT_SEED);
+    }
+
+    /**
+     * Returns the number of groups that {@code personCount} persons are spread over by default.
+     */
+    public static int getDefaultGroupCount(int personCount) {
+        return Math.max(1, Math.min(MAX_GROUP_COUNT, personCount / 20));
+    }
+
+    private static Set<Group> getRandomGroups(Group[] groups, int weeksMarked, Random random) {
+        Set<Group> personGroups = new HashSet<>();
+        if (groups.length == 0) {
+            return personGroups;
+        }
+        double attendanceRate = getRandomAttendanceRate(random);
+        int groupCount = random.nextBoolean() ? 2 : 1;
+        for (int i = 0; i < groupCount; i++) {
+            String groupName = groups[random.nextInt(groups.length)].groupName;
+            personGroups.add(new Group(groupName, getRandomAttendance(attendanceRate, weeksMarked, random)));
+        }
+        return personGroups;
+    }
+
+    private static double getRandomAttendanceRate(Random random) {
+        int roll = random.nextInt(100);
+        for (int i = 0; i < ATTENDANCE_RATES.length; i++) {
+            roll -= ATTENDANCE_RATE_WEIGHTS[i];
+            if (roll < 0) {
+                return ATTENDANCE_RATES[i];
+            }
+        }
+        return ATTENDANCE_RATES[ATTENDANCE_RATES.length - 1];
+    }
+
+    private static List<String> getRandomAttendance(double attendanceRate, int weeksMarked, Random random) {
+        List<String> attendance = new ArrayList<>();
+        for (int week = 1; week <= Group.DEFAULT_WEEK_COUNT; week++) {
+            if (week > weeksMarked) {
+                attendance.add(Group.UNMARKED);
+            } else {
+                attendance.add(random.nextDouble() < attendanceRate ? Group.PRESENT : Group.ABSENT);
+            }
+        }
+        return attendance;
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures adding, finding and replacing a person in a {@code UniquePersonList} of {@link #size} persons.
+ * Each benchmark leaves the list as it found it, so its size does not drift between invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private List<Person> existingPersons;
+    private Person newPerson;
+    private Person lastPerson;
+    private Person editedLastPerson;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(size + 1);
+        existingPersons = addressBook.getPersonList().subList(0, size);
+        persons.setPersons(existingPersons);
+        newPerson = addressBook.getPersonList().get(size);
+        lastPerson = existingPersons.get(size - 1);
+        editedLastPerson = new Person(new Name(lastPerson.getName().fullName + " Edited"), lastPerson.getPhone(),
+                lastPerson.getEmail(), lastPerson.getYear(), lastPerson.getTelegram(), lastPerson.getMajor(),
+                lastPerson.getRemark(), lastPerson.getGroups());
+    }
+
+    /**
+     * Adds a person and removes it again, as the list cannot hold it twice.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() {
+        persons.add(newPerson);
+        persons.remove(newPerson);
+        return persons;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        next = (next + 1) % size;
+        return persons.contains(existingPersons.get(next));
+    }
+
+    /**
+     * Renames the last person and back again.
+     */
+    @Benchmark
+    public UniquePersonList setPerson() {
+        persons.setPerson(lastPerson, editedLastPerson);
+        persons.setPerson(editedLastPerson, lastPerson);
+        return persons;
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Major;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.Year;
+
+/**
+ * Compares validating the fields of a typical person with the model's validators against matching their
+ * documented regular expressions, precompiled.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final Pattern NAME_PATTERN = Pattern.compile(Name.VALIDATION_REGEX);
+    private static final Pattern PHONE_PATTERN = Pattern.compile(Phone.VALIDATION_REGEX);
+    private static final Pattern EMAIL_PATTERN = Pattern.compile(Email.VALIDATION_REGEX);
+    private static final Pattern YEAR_PATTERN = Pattern.compile(Year.VALIDATION_REGEX);
+    private static final Pattern TELEGRAM_PATTERN = Pattern.compile(Telegram.VALIDATION_REGEX);
+    private static final Pattern MAJOR_PATTERN = Pattern.compile(Major.VALIDATION_REGEX);
+    private static final Pattern GROUP_NAME_PATTERN = Pattern.compile(Group.GROUP_NAME_VALIDATION_REGEX);
+
+    public String name = "Charlotte Oliveiro";
+    public String phone = "93210283";
+    public String email = "charlotte@example.com";
+    public String year = "2";
+    public String telegram = "charlotte7";
+    public String major = "Computer Science";
+    public String groupName = "TUT04";
+
+    @Benchmark
+    public boolean validators() {
+        return Name.isValidName(name)
+                & Phone.isValidPhone(phone)
+                & Email.isValidEmail(email)
+                & Year.isValidYear(year)
+                & Telegram.isValidTelegram(telegram)
+                & Major.isValidMajor(major)
+                & Group.isValidGroupName(groupName);
+    }
+
+    @Benchmark
+    public boolean regularExpressions() {
+        return NAME_PATTERN.matcher(name).matches()
+                & PHONE_PATTERN.matcher(phone).matches()
+                & EMAIL_PATTERN.matcher(email).matches()
+                & YEAR_PATTERN.matcher(year).matches()
+                & TELEGRAM_PATTERN.matcher(telegram).matches()
+                & MAJOR_PATTERN.matcher(major).matches()
+                & GROUP_NAME_PATTERN.matcher(groupName).matches();
+    }
+
+}
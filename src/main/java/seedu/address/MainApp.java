@@ -2,10 +2,13 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -21,13 +24,18 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFormatConverter;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.PagedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorageManager;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,6 +46,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 2, 1, true);
 
+    public static final String MESSAGE_LOADING = "Loading... %d persons loaded";
+    public static final String MESSAGE_LOADED = "%d persons loaded";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -46,6 +57,9 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    // Set only while the address book is to be loaded page by page once the UI is shown.
+    private PagedAddressBookStorage pagedAddressBookStorage;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -57,12 +71,27 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = AddressBookFormatConverter.createStorage(
+                userPrefs.getAddressBookFilePath(), userPrefs.getStorageFormat(), userPrefs.getFsyncPolicy());
+        if (userPrefs.isJournalEnabled()) {
+            addressBookStorage = new JournalAddressBookStorage(addressBookStorage, userPrefs.getFsyncPolicy());
+        }
+        storage = new WriteBehindStorageManager(new StorageManager(addressBookStorage, userPrefsStorage),
+                ioe -> ui.showFeedback(LogicManager.getSaveFailureMessage(ioe)));
 
-        model = initModelManager(storage, userPrefs);
+        if (userPrefs.isBackgroundLoadingEnabled() && addressBookStorage instanceof PagedAddressBookStorage) {
+            logger.info("Using data file : " + storage.getAddressBookFilePath() + " (loading in background)");
+            pagedAddressBookStorage = (PagedAddressBookStorage) addressBookStorage;
+            model = new ModelManager(new AddressBook(), userPrefs);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
         logic = new LogicManager(model, storage);
+        logic.startMetricsLogging();
+        if (pagedAddressBookStorage != null) {
+            logic.beginLoading();
+        }
 
         ui = new UiManager(logic);
     }
@@ -93,6 +122,67 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Reads the address book from {@code pagedAddressBookStorage} on a background thread, appending each page of
+     * persons to the model on the JavaFX application thread as soon as it is converted. <br>
+     * As in {@link #initModelManager}, the sample address book is used instead if the data file is not found,
+     * and an empty address book is used instead if it could not be read.
+     */
+    private void loadAddressBookInBackground() {
+        Thread loader = new Thread(() -> {
+            Runnable completeLoadedData = readAddressBookInPages();
+            Platform.runLater(() -> {
+                completeLoadedData.run();
+                finishLoading();
+            });
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reads the address book page by page and returns the action that completes the model's data afterwards.
+     */
+    private Runnable readAddressBookInPages() {
+        try {
+            Optional<ReadOnlyAddressBook> addressBookOptional = pagedAddressBookStorage.readAddressBookInPages(
+                    page -> Platform.runLater(() -> appendLoadedPersons(page)));
+            if (addressBookOptional.isPresent()) {
+                List<Group> groups = addressBookOptional.get().getGroupList();
+                return () -> model.appendSavedData(Collections.emptyList(), groups);
+            }
+            logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                    + " populated with a sample AddressBook.");
+            return () -> replaceLoadedData(SampleDataUtil.getSampleAddressBook());
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            return () -> replaceLoadedData(new AddressBook());
+        }
+    }
+
+    private void appendLoadedPersons(List<Person> persons) {
+        model.appendSavedData(persons, Collections.emptyList());
+        ui.showStatus(String.format(MESSAGE_LOADING, model.getAddressBook().getPersonList().size()));
+    }
+
+    private void replaceLoadedData(ReadOnlyAddressBook addressBook) {
+        model.setAddressBook(addressBook);
+        model.markChangesSaved();
+        model.clearAddressBookHistory();
+    }
+
+    /**
+     * Executes the commands entered while loading, now that the whole address book is in the model.
+     */
+    private void finishLoading() {
+        List<String> feedback = logic.finishLoading();
+        ui.showStatus(String.format(MESSAGE_LOADED, model.getAddressBook().getPersonList().size()));
+        if (!feedback.isEmpty()) {
+            ui.showFeedback(String.join("\n", feedback));
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -172,11 +262,20 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (pagedAddressBookStorage != null) {
+            loadAddressBookInBackground();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.stopMetricsLogging();
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to write pending changes " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -0,0 +1,17 @@
+package seedu.address.commons.core;
+
+/**
+ * How often saved data is forced from the operating system's cache to the disk.
+ * Forcing more often protects more recent saves against power loss at the cost of slower saves.
+ */
+public enum FsyncPolicy {
+    /** Forces every save to disk before it completes. */
+    ALWAYS,
+    /**
+     * Forces a save to disk only if no save has been forced within the batch interval.
+     * The last saves of a burst may therefore stay in the cache until the operating system writes them.
+     */
+    BATCHED,
+    /** Leaves it to the operating system to decide when saved data reaches the disk. */
+    NEVER
+}
@@ -0,0 +1,110 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative {@code long} values, such as durations in nanoseconds or byte counts.
+ * Values below {@value #SUB_BUCKET_COUNT} are counted exactly. Larger values are counted in one of
+ * {@value #SUB_BUCKET_COUNT} equal buckets within their power of two, so percentiles are accurate to within an
+ * eighth of their value. Recording a value only updates a few atomic counters and never allocates.
+ */
+public class Histogram {
+
+    public static final int SUB_BUCKET_COUNT = 8;
+
+    private static final int SUB_BUCKET_BITS = Integer.numberOfTrailingZeros(SUB_BUCKET_COUNT);
+    private static final int BUCKET_COUNT = getBucketIndex(Long.MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Records {@code value}, counting negative values as zero.
+     */
+    public void record(long value) {
+        long recorded = Math.max(value, 0);
+        buckets.incrementAndGet(getBucketIndex(recorded));
+        count.increment();
+        sum.add(recorded);
+        max.accumulate(recorded);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if none have been recorded.
+     */
+    public long getMean() {
+        long currentCount = count.sum();
+        return currentCount == 0 ? 0 : sum.sum() / currentCount;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns an upper bound of the {@code percentile}th percentile of the recorded values, never more than the
+     * largest recorded value, or 0 if none have been recorded.
+     * Values recorded while this is running may or may not be taken into account.
+     *
+     * @param percentile a number from 0 to 100.
+     */
+    public long getPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        long[] counts = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(getBucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in.
+     */
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted in bucket {@code index}.
+     */
+    static long getBucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT;
+        long nextLowerBound = (SUB_BUCKET_COUNT + subBucket + 1) << shift;
+        return nextLowerBound < 0 ? Long.MAX_VALUE : nextLowerBound - 1;
+    }
+
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.core;
+
+/**
+ * File formats the address book can be stored in.
+ */
+public enum StorageFormat {
+    /** Human-readable JSON. */
+    JSON,
+    /** Compact binary snapshot, faster to load and smaller on disk. */
+    BINARY
+}
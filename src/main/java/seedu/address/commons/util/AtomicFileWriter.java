@@ -0,0 +1,168 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Replaces files so that a crash in the middle of a write never leaves a truncated file behind.
+ * The new content is written to a temporary file next to the target, optionally forced to disk according to
+ * the {@link FsyncPolicy}, and then moved over the target in a single atomic step.
+ * Appends are forced under the same policy and rolled back if they fail part way.
+ */
+public class AtomicFileWriter {
+
+    public static final Duration DEFAULT_BATCH_INTERVAL = Duration.ofSeconds(1);
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileWriter.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final FsyncPolicy fsyncPolicy;
+    private final long batchIntervalNanos;
+    private long lastForcedNanos;
+    private boolean hasForced = false;
+
+    public AtomicFileWriter(FsyncPolicy fsyncPolicy) {
+        this(fsyncPolicy, DEFAULT_BATCH_INTERVAL);
+    }
+
+    /**
+     * Creates an {@code AtomicFileWriter} with the given {@code fsyncPolicy}.
+     * Under {@link FsyncPolicy#BATCHED}, at most one write per {@code batchInterval} is forced to disk.
+     */
+    public AtomicFileWriter(FsyncPolicy fsyncPolicy, Duration batchInterval) {
+        requireNonNull(fsyncPolicy);
+        requireNonNull(batchInterval);
+        this.fsyncPolicy = fsyncPolicy;
+        this.batchIntervalNanos = batchInterval.toNanos();
+    }
+
+    /**
+     * Writes content to an {@code OutputStream}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, which is buffered and must not be closed.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Replaces the content of {@code file} with whatever {@code content} writes, creating the file and its
+     * parent directories if they are missing. If writing fails, {@code file} is left unchanged.
+     */
+    public synchronized void write(Path file, ContentWriter content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+
+        Path target = file.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(target);
+        Path tempFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), TEMP_FILE_SUFFIX);
+        boolean isForced = shouldForce();
+        try {
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                content.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            }
+            moveAtomically(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        if (isForced) {
+            forceDirectory(target.getParent());
+            hasForced = true;
+            lastForcedNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Appends whatever {@code content} writes to the end of {@code file}, creating the file and its parent
+     * directories if they are missing. If writing fails, {@code file} is truncated back to its previous length
+     * so that the next append does not follow a partial one.
+     */
+    public synchronized void append(Path file, ContentWriter content) throws IOException {
+        requireNonNull(file);
+        requireNonNull(content);
+
+        Path target = file.toAbsolutePath();
+        FileUtil.createParentDirsOfFile(target);
+        boolean isCreated = !Files.exists(target);
+        boolean isForced = shouldForce();
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            long previousSize = channel.size();
+            channel.position(previousSize);
+            try {
+                OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+                content.writeTo(out);
+                out.flush();
+                if (isForced) {
+                    channel.force(true);
+                }
+            } catch (IOException e) {
+                channel.truncate(previousSize);
+                throw e;
+            }
+        }
+
+        if (isForced) {
+            if (isCreated) {
+                forceDirectory(target.getParent());
+            }
+            hasForced = true;
+            lastForcedNanos = System.nanoTime();
+        }
+    }
+
+    private boolean shouldForce() {
+        switch (fsyncPolicy) {
+        case ALWAYS:
+            return true;
+        case BATCHED:
+            return !hasForced || System.nanoTime() - lastForcedNanos >= batchIntervalNanos;
+        default:
+            return false;
+        }
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            logger.warning("Atomic move not supported for " + target + ", replacing it non-atomically");
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry created by the move to disk. Not every platform allows directories to be
+     * opened, in which case the rename is left to the operating system.
+     */
+    private static void forceDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.fine("Unable to force directory " + directory + ": " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,109 @@
+package seedu.address.commons.util;
+
+/**
+ * Allocation-free validators for the simple formats of the model's values.
+ * Each validator accepts exactly the strings its documented regular expression matches, with {@code \d} and
+ * {@code \p{Alnum}} covering ASCII characters only, as in {@link java.util.regex.Pattern}.
+ * Formats too rich to check by hand keep a precompiled {@link java.util.regex.Pattern} in their own class.
+ */
+public class ValidationUtil {
+
+    private ValidationUtil() {} // prevents instantiation
+
+    /**
+     * Returns true if {@code c} is an ASCII digit.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code test} is made of at least {@code minLength} digits, as {@code \d{minLength,}}.
+     */
+    public static boolean isDigits(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is made of at least {@code minLength} letters, digits and underscores,
+     * as {@code [a-zA-Z0-9_]{minLength,}}.
+     */
+    public static boolean isWordCharacters(String test, int minLength) {
+        if (test.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} starts with a letter or digit followed by any letters, digits and spaces,
+     * as {@code [\p{Alnum}][\p{Alnum} ]*}.
+     */
+    public static boolean isAlphanumericWords(String test) {
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code test} is a single character that appears in {@code allowed}, as {@code [allowed]}.
+     */
+    public static boolean isOneOf(String test, String allowed) {
+        return test.length() == 1 && allowed.indexOf(test.charAt(0)) >= 0;
+    }
+
+    /**
+     * Returns true if {@code test} is a positive number of at most {@code maxDigits} digits without leading zeros,
+     * as {@code [1-9]\d{0,maxDigits - 1}}.
+     */
+    public static boolean isPositiveNumber(String test, int maxDigits) {
+        return !test.isEmpty() && test.length() <= maxDigits && test.charAt(0) != '0' && isDigits(test, 1);
+    }
+
+    /**
+     * Returns true if {@code test} is one of {@code prefixes} followed by exactly {@code digitCount} digits,
+     * as {@code (prefix1|prefix2|...)\d{digitCount}}.
+     */
+    public static boolean isPrefixedNumber(String test, String[] prefixes, int digitCount) {
+        for (String prefix : prefixes) {
+            if (test.length() == prefix.length() + digitCount && test.startsWith(prefix)) {
+                for (int i = prefix.length(); i < test.length(); i++) {
+                    if (!isDigit(test.charAt(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,239 @@
+package seedu.address.logic;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Histogram;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Records how long each command word takes to be parsed, executed and saved, and how many bytes are allocated on
+ * the executing thread while doing so, where the JVM can tell.
+ * A disabled {@code CommandMetrics} hands out a sample that does nothing, so timing costs nothing when disabled.
+ */
+public class CommandMetrics {
+
+    public static final String MESSAGE_DISABLED = "Command metrics are disabled. "
+            + "Set \"commandMetricsEnabled\" to true in preferences.json to record them.";
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been recorded yet.";
+    public static final String MESSAGE_HEADER = "Command timings in microseconds (p50 / p90 / p99 / max):";
+    public static final String MESSAGE_COMMAND_FORMAT = "%s (%d): parse %s, execute %s, save %s";
+    public static final String MESSAGE_ALLOCATION_FORMAT = ", allocated %d / %d KB (p50 / max)";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandMetrics.class);
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "command-metrics-logger");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final com.sun.management.ThreadMXBean allocationBean = getAllocationBean();
+
+    private final boolean isEnabled;
+    private final Map<String, CommandWordMetrics> metricsByCommandWord = new ConcurrentSkipListMap<>();
+    private final AtomicLong recordedCount = new AtomicLong();
+    private ScheduledFuture<?> periodicLogging;
+
+    /**
+     * Creates a {@code CommandMetrics} that records samples only if {@code isEnabled}.
+     */
+    public CommandMetrics(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Starts timing a command on the current thread. The returned sample must be finished on the same thread.
+     */
+    public Sample startSample() {
+        return isEnabled ? new Sample(this) : Sample.DISABLED;
+    }
+
+    /**
+     * Returns the timings of every command word recorded so far, one command word per line in alphabetical order.
+     */
+    public String getSummary() {
+        if (!isEnabled) {
+            return MESSAGE_DISABLED;
+        }
+        if (metricsByCommandWord.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder summary = new StringBuilder(MESSAGE_HEADER);
+        metricsByCommandWord.forEach((commandWord, metrics) ->
+                summary.append('\n').append(metrics.format(commandWord)));
+        return summary.toString();
+    }
+
+    /**
+     * Logs the summary every {@code intervalSeconds} seconds on a shared daemon thread, skipping intervals in which
+     * no command was recorded, until {@link #stopLogging()} is called.
+     */
+    public synchronized void logPeriodically(long intervalSeconds) {
+        stopLogging();
+        if (!isEnabled || intervalSeconds <= 0) {
+            return;
+        }
+        AtomicLong loggedCount = new AtomicLong();
+        periodicLogging = scheduler.scheduleAtFixedRate(() -> {
+            long count = recordedCount.get();
+            if (loggedCount.getAndSet(count) != count) {
+                logger.info(getSummary());
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops logging the summary periodically, if it was.
+     */
+    public synchronized void stopLogging() {
+        if (periodicLogging != null) {
+            periodicLogging.cancel(false);
+            periodicLogging = null;
+        }
+    }
+
+    private void record(String commandWord, Sample sample) {
+        metricsByCommandWord.computeIfAbsent(commandWord, unused -> new CommandWordMetrics()).record(sample);
+        recordedCount.incrementAndGet();
+    }
+
+    private static com.sun.management.ThreadMXBean getAllocationBean() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (!(threadBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+        try {
+            if (!allocationBean.isThreadAllocatedMemorySupported()) {
+                return null;
+            }
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+            return allocationBean;
+        } catch (UnsupportedOperationException | SecurityException e) {
+            logger.info("Allocation counts will not be recorded: " + e);
+            return null;
+        }
+    }
+
+    private static long getAllocatedBytes() {
+        return allocationBean == null ? -1 : allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static String formatMicros(Histogram histogram) {
+        return String.format("%d / %d / %d / %d", toMicros(histogram.getPercentile(50)),
+                toMicros(histogram.getPercentile(90)), toMicros(histogram.getPercentile(99)),
+                toMicros(histogram.getMax()));
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    /**
+     * The timings of one command word.
+     */
+    private static class CommandWordMetrics {
+        private final Histogram parseNanos = new Histogram();
+        private final Histogram executeNanos = new Histogram();
+        private final Histogram saveNanos = new Histogram();
+        private final Histogram allocatedBytes = new Histogram();
+
+        void record(Sample sample) {
+            parseNanos.record(sample.parseEnd - sample.start);
+            if (sample.executeEnd != 0) {
+                executeNanos.record(sample.executeEnd - sample.parseEnd);
+            }
+            if (sample.saveEnd != 0) {
+                saveNanos.record(sample.saveEnd - sample.executeEnd);
+            }
+            if (sample.allocatedBytesAtStart >= 0) {
+                allocatedBytes.record(getAllocatedBytes() - sample.allocatedBytesAtStart);
+            }
+        }
+
+        String format(String commandWord) {
+            String line = String.format(MESSAGE_COMMAND_FORMAT, commandWord, parseNanos.getCount(),
+                    formatMicros(parseNanos), formatMicros(executeNanos), formatMicros(saveNanos));
+            if (allocatedBytes.getCount() == 0) {
+                return line;
+            }
+            return line + String.format(MESSAGE_ALLOCATION_FORMAT, allocatedBytes.getPercentile(50) / 1024,
+                    allocatedBytes.getMax() / 1024);
+        }
+    }
+
+    /**
+     * The timings of a single command, taken with {@link System#nanoTime()} as it passes each phase.
+     * Phases the command did not reach, such as saving a command that changed nothing, are not recorded.
+     */
+    public static class Sample {
+        private static final Sample DISABLED = new Sample(null);
+
+        private final CommandMetrics metrics;
+        private final long start;
+        private final long allocatedBytesAtStart;
+        private long parseEnd;
+        private long executeEnd;
+        private long saveEnd;
+
+        private Sample(CommandMetrics metrics) {
+            this.metrics = metrics;
+            this.allocatedBytesAtStart = metrics == null ? -1 : getAllocatedBytes();
+            this.start = metrics == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Marks the end of parsing.
+         */
+        public void endParse() {
+            if (metrics != null) {
+                parseEnd = System.nanoTime();
+            }
+        }
+
+        /**
+         * Marks the end of executing.
+         */
+        public void endExecute() {
+            if (metrics != null) {
+                executeEnd = System.nanoTime();
+            }
+        }
+
+        /**
+         * Marks the end of saving.
+         */
+        public void endSave() {
+            if (metrics != null) {
+                saveEnd = System.nanoTime();
+            }
+        }
+
+        /**
+         * Records this sample under the command word of {@code commandText}, if it was parsed.
+         */
+        public void finish(String commandText) {
+            if (metrics == null || parseEnd == 0) {
+                return;
+            }
+            String trimmed = commandText.trim();
+            int end = 0;
+            while (end < trimmed.length() && !Character.isWhitespace(trimmed.charAt(end))) {
+                end++;
+            }
+            metrics.record(trimmed.substring(0, end), this);
+        }
+    }
+
+}
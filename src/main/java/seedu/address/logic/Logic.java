@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +9,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.AttendanceCount;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +36,23 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns an unmodifiable view of the persons in {@code group} that are in the filtered list of persons */
+    ObservableList<Person> getFilteredGroupMemberList(Group group);
+
+    /**
+     * Returns how many persons in {@code group} were present, absent or not yet marked in {@code week}.
+     *
+     * @see seedu.address.model.Model#getAttendanceCount(Group, int)
+     */
+    AttendanceCount getAttendanceCount(Group group, int week);
+
+    /**
+     * Returns the largest number of weeks tracked by a person in {@code group}, or 0 if nobody is in the group.
+     *
+     * @see seedu.address.model.Model#getAttendanceWeekCount(Group)
+     */
+    int getAttendanceWeekCount(Group group);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -47,4 +67,35 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Starts queueing the commands that modify the address book, as it is still being loaded.
+     * Commands that only read the address book keep running on the persons loaded so far, unless a command
+     * entered before them is queued, in which case they are queued too to keep the order of the commands.
+     * Exiting is refused while commands are queued.
+     */
+    void beginLoading();
+
+    /**
+     * Stops queueing commands and executes the queued ones in the order they were entered.
+     *
+     * @return the feedback or error message of each queued command, in order.
+     */
+    List<String> finishLoading();
+
+    /**
+     * Returns true if the address book is still being loaded.
+     */
+    boolean isLoading();
+
+    /**
+     * Starts logging the command metrics at the interval set in the user prefs, until
+     * {@link #stopMetricsLogging()} is called.
+     */
+    void startMetricsLogging();
+
+    /**
+     * Stops logging the command metrics periodically, if they were.
+     */
+    void stopMetricsLogging();
 }
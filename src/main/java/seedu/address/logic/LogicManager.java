@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,11 +12,15 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.AttendanceCount;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -27,11 +33,21 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED =
+            "The address book is still loading, so \"%s\" will be executed once loading completes.";
+
+    public static final String MESSAGE_EXIT_WHILE_QUEUED =
+            "The address book is still loading and %d queued command(s) have not been executed yet. "
+            + "Please exit once loading completes.";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics commandMetrics;
+    private final List<String> queuedCommandTexts = new ArrayList<>();
+    private boolean isLoading = false;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -39,28 +55,105 @@ public class LogicManager implements Logic {
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        commandMetrics = new CommandMetrics(model.getUserPrefs().isCommandMetricsEnabled());
+        addressBookParser = new AddressBookParser(commandMetrics);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
+        CommandMetrics.Sample sample = commandMetrics.startSample();
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        sample.endParse();
+        // Once a command is queued, every later command is queued behind it to keep the order they were entered in
+        boolean isQueued = isLoading && (command.isModifying() || !queuedCommandTexts.isEmpty());
+        if (isQueued && command instanceof ExitCommand) {
+            throw new CommandException(String.format(MESSAGE_EXIT_WHILE_QUEUED, queuedCommandTexts.size()));
+        }
+        if (isQueued) {
+            queuedCommandTexts.add(commandText);
+            return new CommandResult(String.format(MESSAGE_COMMAND_QUEUED, commandText));
+        }
+        try {
+            return executeParsed(command, sample);
+        } finally {
+            sample.finish(commandText);
+        }
+    }
+
+    private CommandResult executeParsed(Command command, CommandMetrics.Sample sample) throws CommandException {
+        CommandResult commandResult;
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+            sample.endExecute();
+        }
+
+        List<AddressBookChange> changes = model.getUnsavedChanges();
+        if (changes.isEmpty()) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBookChanges(model.getAddressBook(), changes);
+            model.markChangesSaved();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveFailureMessage(ioe), ioe);
+        } finally {
+            sample.endSave();
         }
 
         return commandResult;
     }
 
+    @Override
+    public void beginLoading() {
+        isLoading = true;
+    }
+
+    @Override
+    public List<String> finishLoading() {
+        isLoading = false;
+        List<String> feedback = new ArrayList<>();
+        for (String commandText : queuedCommandTexts) {
+            try {
+                feedback.add(execute(commandText).getFeedbackToUser());
+            } catch (CommandException | ParseException e) {
+                feedback.add(e.getMessage());
+            }
+        }
+        queuedCommandTexts.clear();
+        return feedback;
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public void startMetricsLogging() {
+        commandMetrics.logPeriodically(model.getUserPrefs().getCommandMetricsLogIntervalSeconds());
+    }
+
+    @Override
+    public void stopMetricsLogging() {
+        commandMetrics.stopLogging();
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book fails with {@code ioe}.
+     */
+    public static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +164,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<Person> getFilteredGroupMemberList(Group group) {
+        return model.getFilteredGroupMemberList(group);
+    }
+
+    @Override
+    public AttendanceCount getAttendanceCount(Group group, int week) {
+        return model.getAttendanceCount(group, week);
+    }
+
+    @Override
+    public int getAttendanceWeekCount(Group group) {
+        return model.getAttendanceWeekCount(group);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
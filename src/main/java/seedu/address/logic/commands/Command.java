@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book.
+     * Commands that only read the address book return false, so they can run while it is still being loaded.
+     */
+    public boolean isModifying() {
+        return true;
+    }
+
 }
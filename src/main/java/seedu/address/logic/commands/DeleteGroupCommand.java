@@ -3,10 +3,12 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -45,17 +47,16 @@ public class DeleteGroupCommand extends Command {
             throw new CommandException(MESSAGE_NOT_FOUND);
         }
 
-        ObservableList<Person> persons = model.getAddressBook().getPersonList();
-        for (Person person : persons) {
-            if (person.getGroups().contains(toRemove)) {
-                Set<Group> editedGroups = new HashSet<>(person.getGroups());
-                editedGroups.remove(toRemove);
-                Person editedPerson = new Person(person.getName(), person.getPhone(), person.getEmail(),
-                        person.getYear(), person.getTelegram(), person.getMajor(), person.getRemark(),
-                        editedGroups);
-                model.setPerson(person, editedPerson);
-            }
+        Map<Person, Person> editedPersons = new HashMap<>();
+        for (Person person : model.getPersonsInGroups(Collections.singletonList(toRemove))) {
+            Set<Group> editedGroups = new HashSet<>(person.getGroups());
+            editedGroups.remove(toRemove);
+            Person editedPerson = new Person(person.getName(), person.getPhone(), person.getEmail(),
+                    person.getYear(), person.getTelegram(), person.getMajor(), person.getRemark(),
+                    editedGroups);
+            editedPersons.put(person, editedPerson);
         }
+        model.setPersons(editedPersons);
 
         model.deleteGroup(toRemove);
 
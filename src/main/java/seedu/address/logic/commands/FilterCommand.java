@@ -36,6 +36,11 @@ public class FilterCommand extends Command {
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
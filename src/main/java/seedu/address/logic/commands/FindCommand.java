@@ -2,14 +2,21 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Set;
+import java.util.stream.Collectors;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case insensitive.
+ * Matching persons are looked up in the name word index of the address book, and the list then shows the persons
+ * with a matching name, so members whose other details change later stay in the list.
  */
 public class FindCommand extends Command {
 
@@ -29,11 +36,19 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        Set<Name> matchingNames = model.findPersonsByNameWords(predicate.getLowerCaseKeywords()).stream()
+                .map(Person::getName)
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> matchingNames.contains(person.getName()));
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
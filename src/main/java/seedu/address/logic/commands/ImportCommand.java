@@ -0,0 +1,96 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonReader;
+
+/**
+ * Adds every student in a CSV file to the address book at once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds every student in a CSV file. "
+            + "Its first line names the columns: " + String.join(",", CsvPersonReader.COLUMNS)
+            + ", of which remark and groups are optional. Groups are separated by spaces and must already exist.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d students from %2$s";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_INVALID_FILE = "No students were imported from %1$s:\n%2$s";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students in %1$s";
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the students in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Rows are checked against the address book by name and group name, which are both hash lookups
+        List<Person> toAdd;
+        try {
+            toAdd = CsvPersonReader.read(filePath, person -> getRejection(model, person));
+        } catch (NoSuchFileException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath), e);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, e.getMessage()), e);
+        } catch (IllegalValueException e) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE, filePath, e.getMessage()), e);
+        }
+        if (toAdd.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, filePath));
+        }
+
+        // Either every student is added or none is, as one change to the list, one undo step and one save
+        model.addPersons(toAdd);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath));
+    }
+
+    private static String getRejection(Model model, Person person) {
+        if (model.hasPerson(person)) {
+            return AddCommand.MESSAGE_DUPLICATE_PERSON;
+        }
+        for (Group group : person.getGroups()) {
+            if (!model.hasGroup(group)) {
+                return String.format(Group.MESSAGE_GROUP_NOT_IN_ADDRESS_BOOK, group);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+}
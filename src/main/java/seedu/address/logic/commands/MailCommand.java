@@ -6,7 +6,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.GroupContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 
@@ -48,8 +47,9 @@ public class MailCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        ReadOnlyAddressBook addressBook = model.getAddressBook();
-        List<Person> personList = addressBook.getPersonList().filtered(predicate);
+        List<Person> personList = predicate == null
+                ? model.getAddressBook().getPersonList()
+                : model.getPersonsInGroups(predicate.getGroups());
 
         // Extract email addresses of filtered students
         List<String> emailList = personList.stream()
@@ -63,6 +63,11 @@ public class MailCommand extends Command {
         return new CommandResult(SHOW_MAILTO_LINK, mailtoLink);
     }
 
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -8,7 +8,6 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
@@ -46,9 +45,7 @@ public class MailTelegramCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        ReadOnlyAddressBook addressBook = model.getAddressBook();
-        List<Person> personList = addressBook.getPersonList().filtered(predicate);
-        List<Group> groupList = addressBook.getGroupList();
+        List<Person> personList = model.getPersonsInGroups(predicate.getGroups());
 
         // Extract email addresses of filtered students
         List<String> emailList = personList.stream()
@@ -57,13 +54,7 @@ public class MailTelegramCommand extends Command {
                 .map(email -> email.value)
                 .collect(Collectors.toList());
 
-        String telegramLink = "";
-        for (Group curr : groupList) {
-            if (curr.isSameGroup(this.group)) {
-                telegramLink = curr.telegramLink;
-                break;
-            }
-        }
+        String telegramLink = model.findGroup(group.groupName).map(curr -> curr.telegramLink).orElse("");
 
         String mailtoLink = createMailtoUrl(String.join(";", emailList),
                 String.format("Welcome to Group %s", group.groupName),
@@ -76,6 +67,11 @@ public class MailTelegramCommand extends Command {
         return new CommandResult(SHOW_MAILTO_LINK, mailtoLink);
     }
 
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+
     /**
      * Generates a mailto link
      * @param recipient The recipient of the email
@@ -74,16 +74,15 @@ public class MarkAttendanceCommand extends Command {
             throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
         }
 
-        // Week number is 1-based, so decrement it to access the correct index in the list
-        if (week < 0 || week > 13) {
+        // Week number is 1-based and cannot exceed the weeks tracked by the group
+        Group groupToMark = personToEdit.getMatchingGroup(group);
+        if (week < 1 || week > groupToMark.getWeekCount()) {
             throw new CommandException(MESSAGE_WEEK_NUMBER_INVALID);
         }
 
-        // Modify the attendance for the specified week
-        personToEdit.getMatchingGroup(group).markAttendance(week, attendance);
-
-        // Use model.setPerson(personToEdit, personToEdit) to update the Person object in the model
-        model.setPerson(personToEdit, personToEdit);
+        // Groups are immutable, so the person is replaced by a copy with the marked group
+        Person markedPerson = personToEdit.withGroup(groupToMark.withAttendance(week, attendance));
+        model.setPerson(personToEdit, markedPerson);
 
         // Return a CommandResult indicating the success of the operation
         return new CommandResult(String.format(MESSAGE_SUCCESS));
@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Marks the attendance of every person in a group for one week, in a single update to the address book.
+ */
+public class MarkGroupAttendanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "markall";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Marks the attendance of every student in a group "
+            + "for one week. The students given as exceptions, by index or by full name, are marked the other way.\n"
+            + "Parameters: "
+            + PREFIX_GROUP + "GROUP_NAME "
+            + PREFIX_WEEK + "WEEK_NUMBER "
+            + PREFIX_ATTENDANCE + "ABSENT_OR_PRESENT (A for absent P for present) "
+            + "[" + PREFIX_EXCEPT + "INDEX_OR_NAME]...\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_GROUP + "TUT04 "
+            + PREFIX_WEEK + "3 "
+            + PREFIX_ATTENDANCE + "P "
+            + PREFIX_EXCEPT + "2 "
+            + PREFIX_EXCEPT + "Alex Yeoh";
+
+    public static final String MESSAGE_SUCCESS = "Attendance of %1$s in week %2$d marked: %3$d present, %4$d absent";
+    public static final String MESSAGE_NO_MEMBERS = "There are no students in group %1$s";
+    public static final String MESSAGE_NOT_A_MEMBER = "%1$s is not in group %2$s";
+    public static final String MESSAGE_WEEK_NUMBER_INVALID = "Week %1$d is not tracked for %2$s in group %3$s";
+
+    private final Group group;
+    private final int week;
+    private final String attendance;
+    private final List<Index> exceptIndexes;
+    private final List<Name> exceptNames;
+
+    /**
+     * Creates a MarkGroupAttendanceCommand to mark everyone in {@code group} with {@code attendance} in
+     * {@code week}, except the persons at {@code exceptIndexes} of the displayed list and those named
+     * {@code exceptNames}, who are marked the other way.
+     */
+    public MarkGroupAttendanceCommand(Group group, int week, String attendance, List<Index> exceptIndexes,
+            List<Name> exceptNames) {
+        requireNonNull(group);
+        requireNonNull(attendance);
+        requireNonNull(exceptIndexes);
+        requireNonNull(exceptNames);
+
+        this.group = group;
+        this.week = week;
+        this.attendance = attendance;
+        this.exceptIndexes = Collections.unmodifiableList(exceptIndexes);
+        this.exceptNames = Collections.unmodifiableList(exceptNames);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> members = model.getPersonsInGroups(Collections.singletonList(group));
+        if (members.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_MEMBERS, group.groupName));
+        }
+        Set<Person> exceptions = getExceptions(model, members);
+
+        String otherAttendance = Group.PRESENT.equals(attendance) ? Group.ABSENT : Group.PRESENT;
+        Map<Person, Person> markedPersons = new HashMap<>();
+        int presentCount = 0;
+        for (Person member : members) {
+            Group groupToMark = member.getMatchingGroup(group);
+            if (week < 1 || week > groupToMark.getWeekCount()) {
+                throw new CommandException(String.format(MESSAGE_WEEK_NUMBER_INVALID, week, member.getName(),
+                        group.groupName));
+            }
+            String update = exceptions.contains(member) ? otherAttendance : attendance;
+            if (Group.PRESENT.equals(update)) {
+                presentCount++;
+            }
+            markedPersons.put(member, member.withGroup(groupToMark.withAttendance(week, update)));
+        }
+
+        // Every member is replaced at once, so the whole group is one edit to undo and one save
+        model.setPersons(markedPersons);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, group.groupName, week, presentCount,
+                members.size() - presentCount));
+    }
+
+    /**
+     * Returns the members of the group named by the exceptions of this command.
+     *
+     * @throws CommandException if an index is out of range, or an exception does not name a member of the group.
+     */
+    private Set<Person> getExceptions(Model model, List<Person> members) throws CommandException {
+        Set<Person> exceptions = new HashSet<>();
+        List<Person> lastShownList = model.getFilteredPersonList();
+        for (Index index : exceptIndexes) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            Person person = lastShownList.get(index.getZeroBased());
+            if (!person.hasGroup(group)) {
+                throw new CommandException(String.format(MESSAGE_NOT_A_MEMBER, person.getName(), group.groupName));
+            }
+            exceptions.add(person);
+        }
+
+        if (exceptNames.isEmpty()) {
+            return exceptions;
+        }
+        Map<Name, Person> membersByName = new HashMap<>();
+        members.forEach(member -> membersByName.put(member.getName(), member));
+        for (Name name : exceptNames) {
+            Person person = membersByName.get(name);
+            if (person == null) {
+                throw new CommandException(String.format(MESSAGE_NOT_A_MEMBER, name, group.groupName));
+            }
+            exceptions.add(person);
+        }
+        return exceptions;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof MarkGroupAttendanceCommand)) {
+            return false;
+        }
+
+        MarkGroupAttendanceCommand otherCommand = (MarkGroupAttendanceCommand) other;
+        return group.equals(otherCommand.group)
+                && week == otherCommand.week
+                && attendance.equals(otherCommand.attendance)
+                && exceptIndexes.equals(otherCommand.exceptIndexes)
+                && exceptNames.equals(otherCommand.exceptNames);
+    }
+}
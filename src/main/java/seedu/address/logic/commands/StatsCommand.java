@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.AttendanceCount;
+import seedu.address.model.group.Group;
+
+/**
+ * Shows how long each command word has taken to parse, execute and save since the app started, or how many
+ * students in a group attended each week.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the command timings, or the attendance "
+            + "of a group in one week or in every week.\n"
+            + "Parameters: [" + PREFIX_GROUP + "GROUP_NAME [" + PREFIX_WEEK + "WEEK_NUMBER]]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "TUT04 " + PREFIX_WEEK + "5";
+
+    public static final String MESSAGE_NO_MEMBERS = "There are no students in group %1$s";
+    public static final String MESSAGE_WEEK_NOT_TRACKED = "Week %1$d is not tracked by anyone in group %2$s";
+    public static final String MESSAGE_ATTENDANCE_HEADER = "Attendance of %1$s (present / absent / unmarked):";
+    public static final String MESSAGE_WEEK_FORMAT = "Week %1$d: %2$d / %3$d / %4$d";
+
+    private final CommandMetrics commandMetrics;
+    private final Group group;
+    private final Integer week;
+
+    /**
+     * Creates a {@code StatsCommand} that shows the timings recorded by {@code commandMetrics}.
+     */
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+        this.group = null;
+        this.week = null;
+    }
+
+    /**
+     * Creates a {@code StatsCommand} that shows the attendance of {@code group} in {@code week}, or in every week
+     * if {@code week} is empty.
+     */
+    public StatsCommand(CommandMetrics commandMetrics, Group group, Optional<Integer> week) {
+        requireNonNull(commandMetrics);
+        requireNonNull(group);
+        requireNonNull(week);
+        this.commandMetrics = commandMetrics;
+        this.group = group;
+        this.week = week.orElse(null);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (group == null) {
+            return new CommandResult(commandMetrics.getSummary());
+        }
+
+        // The counts are kept up to date by the model, so neither case looks at the persons in the group
+        int weekCount = model.getAttendanceWeekCount(group);
+        if (weekCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_MEMBERS, group.groupName));
+        }
+        if (week != null && week > weekCount) {
+            throw new CommandException(String.format(MESSAGE_WEEK_NOT_TRACKED, week, group.groupName));
+        }
+
+        StringBuilder summary = new StringBuilder(String.format(MESSAGE_ATTENDANCE_HEADER, group.groupName));
+        int firstWeek = week == null ? 1 : week;
+        int lastWeek = week == null ? weekCount : week;
+        for (int currentWeek = firstWeek; currentWeek <= lastWeek; currentWeek++) {
+            AttendanceCount count = model.getAttendanceCount(group, currentWeek);
+            summary.append('\n').append(String.format(MESSAGE_WEEK_FORMAT, currentWeek, count.getPresentCount(),
+                    count.getAbsentCount(), count.getUnmarkedCount()));
+        }
+        return new CommandResult(summary.toString());
+    }
+
+    @Override
+    public boolean isModifying() {
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandMetrics == otherStatsCommand.commandMetrics
+                && Objects.equals(group, otherStatsCommand.group)
+                && Objects.equals(week, otherStatsCommand.week);
+    }
+}
@@ -16,5 +16,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_GROUP = new Prefix("g/");
     public static final Prefix PREFIX_WEEK = new Prefix("w/");
     public static final Prefix PREFIX_ATTENDANCE = new Prefix("a/");
+    public static final Prefix PREFIX_EXCEPT = new Prefix("x/");
 
 }
@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ATTENDANCE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EXCEPT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.MarkGroupAttendanceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+
+/**
+ * Parses input arguments and creates a new MarkGroupAttendanceCommand object
+ */
+public class MarkGroupAttendanceCommandParser implements Parser<MarkGroupAttendanceCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MarkGroupAttendanceCommand
+     * and returns a MarkGroupAttendanceCommand object for execution.
+     * An exception made only of digits is taken as an index, and anything else as a name.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public MarkGroupAttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_WEEK, PREFIX_ATTENDANCE,
+                PREFIX_EXCEPT);
+
+        if (!arePrefixesPresent(argMultimap, PREFIX_GROUP, PREFIX_WEEK, PREFIX_ATTENDANCE)
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    MarkGroupAttendanceCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP, PREFIX_WEEK, PREFIX_ATTENDANCE);
+
+        Group group = ParserUtil.parseGroup(argMultimap.getValue(PREFIX_GROUP).get());
+        Integer week = ParserUtil.parseWeek(argMultimap.getValue(PREFIX_WEEK).get());
+        String attendance = ParserUtil.parseAttendance(argMultimap.getValue(PREFIX_ATTENDANCE).get());
+
+        List<Index> exceptIndexes = new ArrayList<>();
+        List<Name> exceptNames = new ArrayList<>();
+        for (String exception : argMultimap.getAllValues(PREFIX_EXCEPT)) {
+            if (isIndex(exception)) {
+                exceptIndexes.add(ParserUtil.parseIndex(exception));
+            } else {
+                exceptNames.add(ParserUtil.parseName(exception));
+            }
+        }
+
+        return new MarkGroupAttendanceCommand(group, week, attendance, exceptIndexes, exceptNames);
+    }
+
+    private static boolean isIndex(String exception) {
+        String trimmed = exception.trim();
+        return !trimmed.isEmpty() && trimmed.chars().allMatch(Character::isDigit);
+    }
+
+    /**
+     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
+     * {@code ArgumentMultimap}.
+     */
+    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
+        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    }
+
+}
@@ -206,6 +206,6 @@ public class ParserUtil {
         if (!Group.isValidAttendance(trimmedAttendance)) {
             throw new ParseException(Group.ATTENDANCE_MESSAGE_CONSTRAINTS);
         }
-        return attendance;
+        return trimmedAttendance;
     }
 }
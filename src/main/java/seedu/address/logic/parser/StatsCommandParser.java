@@ -0,0 +1,58 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_WEEK;
+
+import java.util.Optional;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.Group;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private final CommandMetrics commandMetrics;
+
+    /**
+     * Creates a {@code StatsCommandParser} whose commands show the timings recorded by {@code commandMetrics}.
+     */
+    public StatsCommandParser(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * Without a group, any other arguments are ignored and the command timings are shown.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_WEEK);
+
+        if (argMultimap.getValue(PREFIX_GROUP).isEmpty()) {
+            if (argMultimap.getValue(PREFIX_WEEK).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+            }
+            return new StatsCommand(commandMetrics);
+        }
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP, PREFIX_WEEK);
+
+        Group group = ParserUtil.parseGroup(argMultimap.getValue(PREFIX_GROUP).get());
+        Optional<Integer> week = argMultimap.getValue(PREFIX_WEEK).isPresent()
+                ? Optional.of(ParserUtil.parseWeek(argMultimap.getValue(PREFIX_WEEK).get()))
+                : Optional.empty();
+
+        return new StatsCommand(commandMetrics, group, week);
+    }
+
+}
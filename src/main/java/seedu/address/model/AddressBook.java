@@ -2,23 +2,44 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.group.AttendanceCount;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.UniqueGroupList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Every mutation is also recorded as an {@link AddressBookChange} until {@link #markChangesSaved()} is called,
+ * so that storage can persist only the records that changed since the last save.
+ *
+ * The indexes of the persons are updated before the person list, so observers of the person list already see
+ * them in step with the change they are notified of.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueGroupList groups;
+    private final GroupMemberIndex groupMembers = new GroupMemberIndex();
+    private final NameWordIndex nameWords = new NameWordIndex();
+    private final AttendanceIndex attendance = new AttendanceIndex();
+    private final List<AddressBookChange> unsavedChanges = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -40,6 +61,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        markChangesSaved();
     }
 
     //// list overwrite operations
@@ -49,7 +71,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
-        this.persons.setPersons(persons);
+        requireNonNull(persons);
+
+        updatePersons(() -> resetIndexes(persons), () -> this.persons.setPersons(persons));
+        recordChange(AddressBookChange.reset());
     }
 
     /**
@@ -58,6 +83,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        recordChange(AddressBookChange.reset());
     }
 
     /**
@@ -66,8 +92,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setGroups(newData.getGroupList());
+        List<Person> newPersons = newData.getPersonList();
+        updatePersons(() -> resetIndexes(newPersons), () -> persons.setPersons(newPersons));
+        groups.setGroups(newData.getGroupList());
+        recordChange(AddressBookChange.reset());
+    }
+
+    /**
+     * Appends {@code persons} and {@code groups} that are already saved, such as data loaded from storage page by
+     * page. Nothing is recorded as an unsaved change.
+     * The persons and groups must not already exist in the address book.
+     */
+    public void appendSavedData(List<Person> persons, List<Group> groups) {
+        requireNonNull(persons);
+        requireNonNull(groups);
+
+        updatePersons(() -> persons.forEach(this::addToIndexes), () -> this.persons.addAll(persons));
+        groups.forEach(this.groups::add);
     }
 
     //// person-level operations
@@ -80,6 +121,60 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Returns the person whose name is {@code name}, if any.
+     */
+    public Optional<Person> findPerson(Name name) {
+        requireNonNull(name);
+        return persons.find(name);
+    }
+
+    /**
+     * Returns the persons in any of {@code groups}, each group's members in the order they joined it.
+     * The returned list is a copy, so later changes to the address book do not show up in it.
+     * Looking up groups takes time proportional to their sizes rather than to the whole address book.
+     */
+    public List<Person> getPersonsInGroups(Collection<Group> groups) {
+        requireNonNull(groups);
+        return groupMembers.getMembers(groups);
+    }
+
+    /**
+     * Returns an unmodifiable live view of the persons in {@code group}, in the order they joined it.
+     * The view is kept up to date person by person, without testing every person in the address book.
+     */
+    public ObservableList<Person> getGroupMemberList(Group group) {
+        requireNonNull(group);
+        return groupMembers.getMemberList(group);
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with any of {@code lowerCasePrefixes},
+     * without duplicates and in no particular order. Names are looked up in a sorted index of their words,
+     * so this takes time proportional to the number of matches rather than to the whole address book.
+     */
+    public List<Person> findPersonsByNameWords(Collection<String> lowerCasePrefixes) {
+        requireNonNull(lowerCasePrefixes);
+        return nameWords.find(lowerCasePrefixes);
+    }
+
+    /**
+     * Returns how many persons in {@code group} were present, absent or not yet marked in {@code week}.
+     * The counts are kept up to date as persons change, so this takes constant time however big the group is.
+     */
+    public AttendanceCount getAttendanceCount(Group group, int week) {
+        requireNonNull(group);
+        return attendance.get(group.groupName, week);
+    }
+
+    /**
+     * Returns the largest number of weeks tracked by a person in {@code group}, or 0 if nobody is in the group.
+     */
+    public int getAttendanceWeekCount(Group group) {
+        requireNonNull(group);
+        return attendance.getWeekCount(group.groupName);
+    }
+
     /**
      * Returns true if a group with the same identity as {@code group} exists in the address book.
      */
@@ -88,12 +183,52 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.contains(group);
     }
 
+    /**
+     * Returns the group named {@code groupName} in the address book, if any.
+     */
+    public Optional<Group> findGroup(String groupName) {
+        requireNonNull(groupName);
+        return groups.find(groupName);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addPerson(Person p) {
-        persons.add(p);
+        requireNonNull(p);
+
+        updatePersons(() -> addToIndexes(p), () -> persons.add(p));
+        recordChange(AddressBookChange.addPerson(p));
+    }
+
+    /**
+     * Adds {@code persons} to the end of the address book, notifying observers of the person list once instead of
+     * once per person.
+     * The persons must not already exist in the address book or appear twice in {@code persons}.
+     */
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        updatePersons(() -> persons.forEach(this::addToIndexes), () -> this.persons.addAll(persons));
+        persons.forEach(p -> recordChange(AddressBookChange.addPerson(p)));
+    }
+
+    /**
+     * Inserts a person at {@code index} of the person list, such as to restore a removed person to its place.
+     * The person must not already exist in the address book.
+     * Changes are replayed by appending, so an insertion before the end is recorded as a reset.
+     */
+    public void insertPerson(int index, Person p) {
+        requireNonNull(p);
+
+        boolean isAppended = index == persons.asUnmodifiableObservableList().size();
+        updatePersons(() -> {
+            groupMembers.add(p);
+            nameWords.add(p);
+            attendance.add(p);
+        }, () -> persons.add(index, p));
+        recordChange(isAppended ? AddressBookChange.addPerson(p) : AddressBookChange.reset());
     }
 
     /**
@@ -102,6 +237,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addGroup(Group g) {
         groups.add(g);
+        recordChange(AddressBookChange.addGroup(g));
+    }
+
+    /**
+     * Inserts a group at {@code index} of the group list, such as to restore a removed group to its place.
+     * The group must not already exist in the address book.
+     * Changes are replayed by appending, so an insertion before the end is recorded as a reset.
+     */
+    public void insertGroup(int index, Group g) {
+        boolean isAppended = index == groups.asUnmodifiableObservableList().size();
+        groups.add(index, g);
+        recordChange(isAppended ? AddressBookChange.addGroup(g) : AddressBookChange.reset());
     }
 
     /**
@@ -112,7 +259,34 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
-        persons.setPerson(target, editedPerson);
+        updatePersons(() -> {
+            groupMembers.set(target, editedPerson);
+            nameWords.set(target, editedPerson);
+            attendance.set(target, editedPerson);
+        }, () -> persons.setPerson(target, editedPerson));
+        recordChange(AddressBookChange.setPerson(target, editedPerson));
+    }
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with its value, notifying observers of the
+     * person list once instead of once per person.
+     * Every key must exist in the address book.
+     * The person identities after the replacement must not be the same as each other.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        updatePersons(() -> {
+            groupMembers.reset(persons.asUnmodifiableObservableList().stream()
+                    .map(person -> editedPersons.getOrDefault(person, person))
+                    .collect(Collectors.toList()));
+            editedPersons.forEach((target, editedPerson) -> {
+                nameWords.set(target, editedPerson);
+                attendance.set(target, editedPerson);
+            });
+        }, () -> persons.setPersons(editedPersons));
+        editedPersons.forEach((target, editedPerson) ->
+                recordChange(AddressBookChange.setPerson(target, editedPerson)));
     }
 
     /**
@@ -124,22 +298,115 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedGroup);
 
         groups.setGroup(target, editedGroup);
+        recordChange(AddressBookChange.setGroup(target, editedGroup));
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook} and returns the position it was at in the person list.
      * {@code key} must exist in the address book.
      */
-    public void removePerson(Person key) {
-        persons.remove(key);
+    public int removePerson(Person key) {
+        requireNonNull(key);
+
+        int index = updatePersons(() -> {
+            groupMembers.remove(key);
+            nameWords.remove(key);
+            attendance.remove(key);
+        }, () -> persons.remove(key));
+        recordChange(AddressBookChange.removePerson(key));
+        return index;
+    }
+
+    /**
+     * Removes {@code keys} from this {@code AddressBook}, notifying observers of the person list once instead of
+     * once per person.
+     * Every key must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        requireNonNull(keys);
+
+        Set<Person> removedPersons = new HashSet<>(keys);
+        updatePersons(() -> {
+            groupMembers.reset(persons.asUnmodifiableObservableList().stream()
+                    .filter(person -> !removedPersons.contains(person))
+                    .collect(Collectors.toList()));
+            for (Person key : keys) {
+                nameWords.remove(key);
+                attendance.remove(key);
+            }
+        }, () -> persons.removeAll(keys));
+        keys.forEach(key -> recordChange(AddressBookChange.removePerson(key)));
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Runs {@code indexUpdate} and then {@code listUpdate}, so that the indexes are already up to date when the
+     * person list notifies its observers. If the person list rejects the change, the indexes are rebuilt from the
+     * unchanged person list before the exception is rethrown.
+     */
+    private void updatePersons(Runnable indexUpdate, Runnable listUpdate) {
+        updatePersons(indexUpdate, () -> {
+            listUpdate.run();
+            return null;
+        });
+    }
+
+    private <T> T updatePersons(Runnable indexUpdate, Supplier<T> listUpdate) {
+        try {
+            indexUpdate.run();
+            return listUpdate.get();
+        } catch (RuntimeException e) {
+            resetIndexes(persons.asUnmodifiableObservableList());
+            throw e;
+        }
+    }
+
+    private void addToIndexes(Person p) {
+        groupMembers.add(p);
+        nameWords.add(p);
+        attendance.add(p);
+    }
+
+    private void resetIndexes(List<Person> persons) {
+        groupMembers.reset(persons);
+        nameWords.reset(persons);
+        attendance.reset(persons);
+    }
+
+    /**
+     * Removes {@code key} from this {@code AddressBook} and returns the position it was at in the group list.
      * {@code key} must exist in the address book.
      */
-    public void removeGroup(Group key) {
-        groups.remove(key);
+    public int removeGroup(Group key) {
+        int index = groups.remove(key);
+        recordChange(AddressBookChange.removeGroup(key));
+        return index;
+    }
+
+    //// change tracking
+
+    private void recordChange(AddressBookChange change) {
+        unsavedChanges.add(change);
+    }
+
+    /**
+     * Returns true if this address book has been modified since the last call to {@link #markChangesSaved()}.
+     */
+    public boolean hasUnsavedChanges() {
+        return !unsavedChanges.isEmpty();
+    }
+
+    /**
+     * Returns the changes applied since the last call to {@link #markChangesSaved()}, oldest first.
+     */
+    public List<AddressBookChange> getUnsavedChanges() {
+        return Collections.unmodifiableList(new ArrayList<>(unsavedChanges));
+    }
+
+    /**
+     * Discards the recorded changes, marking the current state as persisted.
+     */
+    public void markChangesSaved() {
+        unsavedChanges.clear();
     }
 
     //// util methods
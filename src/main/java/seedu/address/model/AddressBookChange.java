@@ -0,0 +1,162 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Represents a single mutation that was applied to an {@code AddressBook}.
+ * Changes are recorded in the order they are applied so that storage can persist only what changed.
+ * Guarantees: immutable; the fields relevant to the {@code Type} of change are present and not null.
+ */
+public class AddressBookChange {
+
+    /**
+     * Kinds of mutations an {@code AddressBook} records.
+     */
+    public enum Type {
+        ADD_PERSON, SET_PERSON, REMOVE_PERSON, ADD_GROUP, SET_GROUP, REMOVE_GROUP, RESET
+    }
+
+    private final Type type;
+    private final Person targetPerson;
+    private final Person person;
+    private final Group targetGroup;
+    private final Group group;
+
+    private AddressBookChange(Type type, Person targetPerson, Person person, Group targetGroup, Group group) {
+        this.type = type;
+        this.targetPerson = targetPerson;
+        this.person = person;
+        this.targetGroup = targetGroup;
+        this.group = group;
+    }
+
+    /**
+     * Returns a change recording that {@code person} was added.
+     */
+    public static AddressBookChange addPerson(Person person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD_PERSON, null, person, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedPerson}.
+     */
+    public static AddressBookChange setPerson(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Type.SET_PERSON, target, editedPerson, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was removed.
+     */
+    public static AddressBookChange removePerson(Person target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.REMOVE_PERSON, target, null, null, null);
+    }
+
+    /**
+     * Returns a change recording that {@code group} was added.
+     */
+    public static AddressBookChange addGroup(Group group) {
+        requireNonNull(group);
+        return new AddressBookChange(Type.ADD_GROUP, null, null, null, group);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was replaced by {@code editedGroup}.
+     */
+    public static AddressBookChange setGroup(Group target, Group editedGroup) {
+        requireNonNull(target);
+        requireNonNull(editedGroup);
+        return new AddressBookChange(Type.SET_GROUP, null, null, target, editedGroup);
+    }
+
+    /**
+     * Returns a change recording that {@code target} was removed.
+     */
+    public static AddressBookChange removeGroup(Group target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.REMOVE_GROUP, null, null, target, null);
+    }
+
+    /**
+     * Returns a change recording that the whole address book was replaced.
+     */
+    public static AddressBookChange reset() {
+        return new AddressBookChange(Type.RESET, null, null, null, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person that was replaced or removed, or null if this change does not target a person.
+     */
+    public Person getTargetPerson() {
+        return targetPerson;
+    }
+
+    /**
+     * Returns the person that was added or the replacement person, or null if this change does not add one.
+     */
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the group that was replaced or removed, or null if this change does not target a group.
+     */
+    public Group getTargetGroup() {
+        return targetGroup;
+    }
+
+    /**
+     * Returns the group that was added or the replacement group, or null if this change does not add one.
+     */
+    public Group getGroup() {
+        return group;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(targetPerson, otherChange.targetPerson)
+                && Objects.equals(person, otherChange.person)
+                && Objects.equals(targetGroup, otherChange.targetGroup)
+                && Objects.equals(group, otherChange.group);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, targetPerson, person, targetGroup, group);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("type", type)
+                .add("targetPerson", targetPerson)
+                .add("person", person)
+                .add("targetGroup", targetGroup)
+                .add("group", group)
+                .toString();
+    }
+}
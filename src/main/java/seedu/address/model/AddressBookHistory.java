@@ -0,0 +1,223 @@
+package seedu.address.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Remembers the edits made by each command to an address book, so that they can be undone and redone.
+ * Each edit keeps only the persons and groups it changed, together with enough to invert it, instead of a copy of
+ * the whole address book. The edits refer to the same persons and groups as the address book rather than copies.
+ *
+ * The history is bounded both in the number of commands and in the total weight of their edits, roughly the number
+ * of persons and groups they refer to. The oldest commands are forgotten first.
+ */
+class AddressBookHistory {
+
+    public static final int MAX_COMMAND_COUNT = 100;
+    public static final int MAX_TOTAL_WEIGHT = 200_000;
+
+    private final Deque<List<Edit>> undoStack = new ArrayDeque<>();
+    private final Deque<List<Edit>> redoStack = new ArrayDeque<>();
+    private List<Edit> uncommittedEdits = new ArrayList<>();
+    private final int maxCommandCount;
+    private final int maxTotalWeight;
+    private int totalWeight = 0;
+
+    AddressBookHistory() {
+        this(MAX_COMMAND_COUNT, MAX_TOTAL_WEIGHT);
+    }
+
+    AddressBookHistory(int maxCommandCount, int maxTotalWeight) {
+        this.maxCommandCount = maxCommandCount;
+        this.maxTotalWeight = maxTotalWeight;
+    }
+
+    /**
+     * Records {@code edit} as part of the command being executed.
+     */
+    void record(Edit edit) {
+        uncommittedEdits.add(edit);
+    }
+
+    /**
+     * Ends the command being executed, making its edits undoable as one step.
+     * A command that made no edits leaves the history as it is.
+     */
+    void commit() {
+        if (uncommittedEdits.isEmpty()) {
+            return;
+        }
+        List<Edit> edits = uncommittedEdits;
+        uncommittedEdits = new ArrayList<>();
+        clearRedoStack();
+        push(undoStack, edits);
+        while (undoStack.size() > maxCommandCount || (totalWeight > maxTotalWeight && !undoStack.isEmpty())) {
+            totalWeight -= getWeight(undoStack.removeLast());
+        }
+    }
+
+    boolean canUndo() {
+        return !undoStack.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoStack.isEmpty();
+    }
+
+    /**
+     * Reverts the edits of the last command that was committed and not undone, latest edit first.
+     */
+    void undo(AddressBook addressBook) {
+        commit();
+        List<Edit> edits = pop(undoStack);
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            edits.get(i).undo.accept(addressBook);
+        }
+        push(redoStack, edits);
+    }
+
+    /**
+     * Reapplies the edits of the last command that was undone, in their original order.
+     */
+    void redo(AddressBook addressBook) {
+        List<Edit> edits = pop(redoStack);
+        edits.forEach(edit -> edit.redo.accept(addressBook));
+        push(undoStack, edits);
+    }
+
+    /**
+     * Forgets every recorded edit, so that none of them can be undone or redone.
+     */
+    void clear() {
+        undoStack.clear();
+        redoStack.clear();
+        uncommittedEdits.clear();
+        totalWeight = 0;
+    }
+
+    private void clearRedoStack() {
+        while (!redoStack.isEmpty()) {
+            totalWeight -= getWeight(redoStack.pop());
+        }
+    }
+
+    private void push(Deque<List<Edit>> stack, List<Edit> edits) {
+        stack.push(edits);
+        totalWeight += getWeight(edits);
+    }
+
+    private List<Edit> pop(Deque<List<Edit>> stack) {
+        List<Edit> edits = stack.pop();
+        totalWeight -= getWeight(edits);
+        return edits;
+    }
+
+    private static int getWeight(List<Edit> edits) {
+        int weight = 0;
+        for (Edit edit : edits) {
+            weight += edit.weight;
+        }
+        return weight;
+    }
+
+    /**
+     * A single edit to an address book, along with how to revert and reapply it.
+     */
+    static class Edit {
+        private final Consumer<AddressBook> undo;
+        private final Consumer<AddressBook> redo;
+        private final int weight;
+
+        private Edit(Consumer<AddressBook> undo, Consumer<AddressBook> redo, int weight) {
+            this.undo = undo;
+            this.redo = redo;
+            this.weight = weight;
+        }
+
+        static Edit addPerson(Person person) {
+            return new Edit(addressBook -> addressBook.removePerson(person),
+                    addressBook -> addressBook.addPerson(person), 1);
+        }
+
+        static Edit addPersons(List<Person> persons) {
+            List<Person> copy = new ArrayList<>(persons);
+            return new Edit(addressBook -> addressBook.removePersons(copy),
+                    addressBook -> addressBook.addPersons(copy), copy.size());
+        }
+
+        static Edit removePerson(Person target, int index) {
+            return new Edit(addressBook -> addressBook.insertPerson(index, target),
+                    addressBook -> addressBook.removePerson(target), 1);
+        }
+
+        static Edit setPerson(Person target, Person editedPerson) {
+            return new Edit(addressBook -> addressBook.setPerson(editedPerson, target),
+                    addressBook -> addressBook.setPerson(target, editedPerson), 2);
+        }
+
+        static Edit setPersons(Map<Person, Person> editedPersons) {
+            Map<Person, Person> copy = new HashMap<>(editedPersons);
+            Map<Person, Person> inverse = new HashMap<>();
+            copy.forEach((target, editedPerson) -> inverse.put(editedPerson, target));
+            return new Edit(addressBook -> addressBook.setPersons(inverse),
+                    addressBook -> addressBook.setPersons(copy), 2 * copy.size());
+        }
+
+        static Edit addGroup(Group group) {
+            return new Edit(addressBook -> addressBook.removeGroup(group),
+                    addressBook -> addressBook.addGroup(group), 1);
+        }
+
+        static Edit removeGroup(Group target, int index) {
+            return new Edit(addressBook -> addressBook.insertGroup(index, target),
+                    addressBook -> addressBook.removeGroup(target), 1);
+        }
+
+        static Edit setGroup(Group target, Group editedGroup) {
+            return new Edit(addressBook -> addressBook.setGroup(editedGroup, target),
+                    addressBook -> addressBook.setGroup(target, editedGroup), 2);
+        }
+
+        /**
+         * Returns an edit that replaces the whole of {@code before} with {@code after}.
+         * Only the lists of persons and groups are kept, not copies of the persons and groups themselves.
+         */
+        static Edit reset(ReadOnlyAddressBook before, ReadOnlyAddressBook after) {
+            ReadOnlyAddressBook beforeSnapshot = snapshot(before);
+            ReadOnlyAddressBook afterSnapshot = snapshot(after);
+            int weight = before.getPersonList().size() + before.getGroupList().size()
+                    + after.getPersonList().size() + after.getGroupList().size();
+            return new Edit(addressBook -> addressBook.resetData(beforeSnapshot),
+                    addressBook -> addressBook.resetData(afterSnapshot), weight);
+        }
+
+        private static ReadOnlyAddressBook snapshot(ReadOnlyAddressBook addressBook) {
+            ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getPersonList()));
+            ObservableList<Group> groups = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(addressBook.getGroupList()));
+            return new ReadOnlyAddressBook() {
+                @Override
+                public ObservableList<Person> getPersonList() {
+                    return persons;
+                }
+
+                @Override
+                public ObservableList<Group> getGroupList() {
+                    return groups;
+                }
+            };
+        }
+    }
+
+}
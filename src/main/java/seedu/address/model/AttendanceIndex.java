@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.group.AttendanceCount;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Counts, for every group and week, how many persons in the group were present, absent or not yet marked.
+ * The counts are updated person by person as the person list changes, so looking one up takes constant time
+ * instead of a scan of every person in the group. Updating a person costs at most {@link Group#MAX_WEEK_COUNT}
+ * steps for each of its groups.
+ */
+class AttendanceIndex {
+
+    private final Map<String, GroupAttendance> attendanceByGroupName = new HashMap<>();
+
+    /**
+     * Recounts the attendance of {@code persons} from scratch.
+     */
+    void reset(List<Person> persons) {
+        attendanceByGroupName.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Counts the attendance of {@code person}, which is added to the person list.
+     */
+    void add(Person person) {
+        for (Group group : person.getGroups()) {
+            attendanceByGroupName.computeIfAbsent(group.groupName, unused -> new GroupAttendance()).update(group, 1);
+        }
+    }
+
+    /**
+     * Stops counting the attendance of {@code person}, which is removed from the person list.
+     */
+    void remove(Person person) {
+        for (Group group : person.getGroups()) {
+            GroupAttendance attendance = attendanceByGroupName.get(group.groupName);
+            if (attendance == null) {
+                continue;
+            }
+            attendance.update(group, -1);
+            if (attendance.memberCount == 0) {
+                attendanceByGroupName.remove(group.groupName);
+            }
+        }
+    }
+
+    /**
+     * Counts the attendance of {@code editedPerson} in place of {@code target}, which it replaces.
+     */
+    void set(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Returns the attendance of the group named {@code groupName} in {@code week}.
+     * Weeks that no person in the group tracks, and groups without persons, count nobody.
+     */
+    AttendanceCount get(String groupName, int week) {
+        GroupAttendance attendance = attendanceByGroupName.get(groupName);
+        if (attendance == null || week < 1 || week > Group.MAX_WEEK_COUNT) {
+            return AttendanceCount.NONE;
+        }
+        int present = attendance.presentCounts[week - 1];
+        int absent = attendance.absentCounts[week - 1];
+        return new AttendanceCount(present, absent, attendance.trackingCounts[week - 1] - present - absent);
+    }
+
+    /**
+     * Returns the number of persons in the group named {@code groupName}.
+     */
+    int getMemberCount(String groupName) {
+        GroupAttendance attendance = attendanceByGroupName.get(groupName);
+        return attendance == null ? 0 : attendance.memberCount;
+    }
+
+    /**
+     * Returns the largest number of weeks tracked by a person in the group named {@code groupName}, or 0 if the
+     * group has no persons.
+     */
+    int getWeekCount(String groupName) {
+        GroupAttendance attendance = attendanceByGroupName.get(groupName);
+        if (attendance == null) {
+            return 0;
+        }
+        int weekCount = Group.MAX_WEEK_COUNT;
+        while (weekCount > 0 && attendance.trackingCounts[weekCount - 1] == 0) {
+            weekCount--;
+        }
+        return weekCount;
+    }
+
+    /**
+     * The attendance counts of one group, indexed by zero-based week.
+     */
+    private static class GroupAttendance {
+        private final int[] trackingCounts = new int[Group.MAX_WEEK_COUNT];
+        private final int[] presentCounts = new int[Group.MAX_WEEK_COUNT];
+        private final int[] absentCounts = new int[Group.MAX_WEEK_COUNT];
+        private int memberCount = 0;
+
+        /**
+         * Adds {@code delta} to the counts of every week that {@code group} tracks, according to its attendance.
+         */
+        void update(Group group, int delta) {
+            memberCount += delta;
+            for (int week = 0; week < group.getWeekCount(); week++) {
+                trackingCounts[week] += delta;
+            }
+            addToWeeks(presentCounts, group.getPresentWeeksMask(), delta);
+            addToWeeks(absentCounts, group.getAbsentWeeksMask(), delta);
+        }
+
+        private static void addToWeeks(int[] counts, int weeksMask, int delta) {
+            for (int mask = weeksMask; mask != 0; mask &= mask - 1) {
+                counts[Integer.numberOfTrailingZeros(mask)] += delta;
+            }
+        }
+    }
+
+}
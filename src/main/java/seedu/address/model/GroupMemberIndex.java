@@ -0,0 +1,116 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Maps every group to the persons in it, in the order they joined the group.
+ * The index is updated person by person, so updating it or looking up a group costs as much as the groups
+ * involved are big instead of a scan of every person.
+ *
+ * Each group's members are kept in an {@code ObservableList} that lives as long as the index, even while the group
+ * has no members, so that views of a group stay attached across every update.
+ */
+class GroupMemberIndex {
+
+    private final Map<Group, ObservableList<Person>> membersByGroup = new HashMap<>();
+
+    /**
+     * Indexes {@code person}, which is added to the person list at any position.
+     */
+    void add(Person person) {
+        for (Group group : person.getGroups()) {
+            getModifiableMembers(group).add(person);
+        }
+    }
+
+    /**
+     * Stops indexing {@code person}, which is removed from the person list.
+     */
+    void remove(Person person) {
+        for (Group group : person.getGroups()) {
+            getModifiableMembers(group).remove(person);
+        }
+    }
+
+    /**
+     * Indexes {@code editedPerson} in place of {@code target}, which it replaces in the person list.
+     * {@code editedPerson} keeps the place of {@code target} in the groups they share and is added last to the
+     * groups it newly joins.
+     */
+    void set(Person target, Person editedPerson) {
+        for (Group group : target.getGroups()) {
+            if (!editedPerson.getGroups().contains(group)) {
+                getModifiableMembers(group).remove(target);
+            }
+        }
+        for (Group group : editedPerson.getGroups()) {
+            List<Person> members = getModifiableMembers(group);
+            int index = target.getGroups().contains(group) ? members.indexOf(target) : -1;
+            if (index >= 0) {
+                members.set(index, editedPerson);
+            } else {
+                members.add(editedPerson);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from {@code persons}, replacing the members of every group in a single change.
+     */
+    void reset(List<Person> persons) {
+        Map<Group, List<Person>> updatedMembers = new HashMap<>();
+        for (Person person : persons) {
+            for (Group group : person.getGroups()) {
+                updatedMembers.computeIfAbsent(group, unused -> new ArrayList<>()).add(person);
+            }
+        }
+        membersByGroup.forEach((group, members) ->
+                members.setAll(updatedMembers.getOrDefault(group, Collections.emptyList())));
+        updatedMembers.forEach((group, members) -> getModifiableMembers(group).setAll(members));
+    }
+
+    /**
+     * Returns an unmodifiable live view of the persons in {@code group}, in the order they joined it.
+     * The view follows every later change to the index.
+     */
+    ObservableList<Person> getMemberList(Group group) {
+        return FXCollections.unmodifiableObservableList(getModifiableMembers(group));
+    }
+
+    /**
+     * Returns a copy of the persons in any of {@code groups}, without duplicates. The members of each group are
+     * listed in the order they joined it, group after group.
+     */
+    List<Person> getMembers(Collection<Group> groups) {
+        if (groups.size() == 1) {
+            return List.copyOf(membersByGroup.getOrDefault(groups.iterator().next(), Collections.emptyList()));
+        }
+        Set<Person> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Person> members = new ArrayList<>();
+        for (Group group : groups) {
+            for (Person person : membersByGroup.getOrDefault(group, Collections.emptyList())) {
+                if (seen.add(person)) {
+                    members.add(person);
+                }
+            }
+        }
+        return Collections.unmodifiableList(members);
+    }
+
+    private ObservableList<Person> getModifiableMembers(Group group) {
+        return membersByGroup.computeIfAbsent(group, unused -> FXCollections.observableArrayList());
+    }
+
+}
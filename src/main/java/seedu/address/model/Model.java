@@ -1,10 +1,15 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.group.AttendanceCount;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
@@ -53,11 +58,56 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the changes made to the address book since they were last marked as saved, oldest first.
+     */
+    List<AddressBookChange> getUnsavedChanges();
+
+    /**
+     * Marks every change made to the address book so far as persisted.
+     */
+    void markChangesSaved();
+
+    /**
+     * Appends {@code persons} and {@code groups} that are already saved, such as a page of data loaded in the
+     * background, without recording them as unsaved changes.
+     */
+    void appendSavedData(List<Person> persons, List<Group> groups);
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns a copy of the persons in the address book who are in any of {@code groups}, each group's members
+     * in the order they joined it.
+     */
+    List<Person> getPersonsInGroups(Collection<Group> groups);
+
+    /**
+     * Returns an unmodifiable view of the persons in {@code group} that also pass the filter of the filtered person
+     * list, in the order they joined the group. The view follows later changes to both.
+     */
+    ObservableList<Person> getFilteredGroupMemberList(Group group);
+
+    /**
+     * Returns the persons in the address book with a word in their name that starts with any of
+     * {@code lowerCasePrefixes}, without duplicates and in no particular order.
+     */
+    List<Person> findPersonsByNameWords(Collection<String> lowerCasePrefixes);
+
+    /**
+     * Returns how many persons in {@code group} were present, absent or not yet marked in {@code week},
+     * in constant time.
+     */
+    AttendanceCount getAttendanceCount(Group group, int week);
+
+    /**
+     * Returns the largest number of weeks tracked by a person in {@code group}, or 0 if nobody is in the group.
+     */
+    int getAttendanceWeekCount(Group group);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -70,6 +120,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in one step, in order.
+     * The persons must not already exist in the address book or appear twice in {@code persons}.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -77,6 +133,46 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with its value, as a single update of the
+     * person list.
+     * Every key must exist in the address book.
+     * The person identities after the replacement must not be the same as each other.
+     */
+    void setPersons(Map<Person, Person> editedPersons);
+
+    /**
+     * Ends the current command, so that the changes it made to the address book can be undone together.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a command whose changes can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone command whose changes can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Reverts the changes made by the last command that has not been undone.
+     * There must be such a command.
+     */
+    void undoAddressBook();
+
+    /**
+     * Reapplies the changes of the last undone command.
+     * There must be such a command.
+     */
+    void redoAddressBook();
+
+    /**
+     * Forgets the changes made so far, so that they can no longer be undone or redone.
+     */
+    void clearAddressBookHistory();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -91,6 +187,11 @@ public interface Model {
      */
     boolean hasGroup(Group group);
 
+    /**
+     * Returns the group named {@code groupName} in the address book, if any.
+     */
+    Optional<Group> findGroup(String groupName);
+
     /**
      * Deletes the given group.
      * The group must exist in the address book.
@@ -4,6 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,6 +15,7 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.group.AttendanceCount;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
@@ -23,6 +28,7 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final AddressBookHistory history = new AddressBookHistory();
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -80,7 +86,9 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        AddressBookHistory.Edit edit = AddressBookHistory.Edit.reset(this.addressBook, addressBook);
         this.addressBook.resetData(addressBook);
+        history.record(edit);
     }
 
     @Override
@@ -88,20 +96,70 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public List<AddressBookChange> getUnsavedChanges() {
+        return addressBook.getUnsavedChanges();
+    }
+
+    @Override
+    public void markChangesSaved() {
+        addressBook.markChangesSaved();
+    }
+
+    @Override
+    public void appendSavedData(List<Person> persons, List<Group> groups) {
+        addressBook.appendSavedData(persons, groups);
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public List<Person> getPersonsInGroups(Collection<Group> groups) {
+        requireNonNull(groups);
+        return addressBook.getPersonsInGroups(groups);
+    }
+
+    @Override
+    public List<Person> findPersonsByNameWords(Collection<String> lowerCasePrefixes) {
+        requireNonNull(lowerCasePrefixes);
+        return addressBook.findPersonsByNameWords(lowerCasePrefixes);
+    }
+
+    @Override
+    public AttendanceCount getAttendanceCount(Group group, int week) {
+        requireNonNull(group);
+        return addressBook.getAttendanceCount(group, week);
+    }
+
+    @Override
+    public int getAttendanceWeekCount(Group group) {
+        requireNonNull(group);
+        return addressBook.getAttendanceWeekCount(group);
+    }
+
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        int index = addressBook.removePerson(target);
+        history.record(AddressBookHistory.Edit.removePerson(target, index));
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        history.record(AddressBookHistory.Edit.addPerson(person));
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+
+        addressBook.addPersons(persons);
+        history.record(AddressBookHistory.Edit.addPersons(persons));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -110,6 +168,15 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setPerson(target, editedPerson);
+        history.record(AddressBookHistory.Edit.setPerson(target, editedPerson));
+    }
+
+    @Override
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        addressBook.setPersons(editedPersons);
+        history.record(AddressBookHistory.Edit.setPersons(editedPersons));
     }
 
     @Override
@@ -118,14 +185,22 @@ public class ModelManager implements Model {
         return addressBook.hasGroup(group);
     }
 
+    @Override
+    public Optional<Group> findGroup(String groupName) {
+        requireNonNull(groupName);
+        return addressBook.findGroup(groupName);
+    }
+
     @Override
     public void deleteGroup(Group target) {
-        addressBook.removeGroup(target);
+        int index = addressBook.removeGroup(target);
+        history.record(AddressBookHistory.Edit.removeGroup(target, index));
     }
 
     @Override
     public void addGroup(Group group) {
         addressBook.addGroup(group);
+        history.record(AddressBookHistory.Edit.addGroup(group));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -134,6 +209,39 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedGroup);
 
         addressBook.setGroup(target, editedGroup);
+        history.record(AddressBookHistory.Edit.setGroup(target, editedGroup));
+    }
+
+    //=========== Undo/Redo ==================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        history.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return history.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return history.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        history.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        history.redo(addressBook);
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        history.clear();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -147,6 +255,18 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * Returns a view of the members of {@code group} whose filter is bound to the filter of the filtered person list.
+     * The binding is weak, so a view that is no longer used can be garbage collected.
+     */
+    @Override
+    public ObservableList<Person> getFilteredGroupMemberList(Group group) {
+        requireNonNull(group);
+        FilteredList<Person> filteredMembers = new FilteredList<>(addressBook.getGroupMemberList(group));
+        filteredMembers.predicateProperty().bind(filteredPersons.predicateProperty());
+        return filteredMembers;
+    }
+
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
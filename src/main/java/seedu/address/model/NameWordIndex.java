@@ -0,0 +1,87 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Maps every lower case word of every name in the address book to the persons with that word in their name.
+ * Words are kept sorted, so the persons with a word starting with some prefix are found with a range lookup
+ * instead of testing every name.
+ */
+class NameWordIndex {
+
+    private final NavigableMap<String, List<Person>> personsByWord = new TreeMap<>();
+
+    /**
+     * Indexes the name of {@code person}.
+     */
+    void add(Person person) {
+        for (String word : person.getName().getLowerCaseWords()) {
+            personsByWord.computeIfAbsent(word, unused -> new ArrayList<>()).add(person);
+        }
+    }
+
+    /**
+     * Stops indexing the name of {@code person}.
+     */
+    void remove(Person person) {
+        for (String word : person.getName().getLowerCaseWords()) {
+            List<Person> persons = personsByWord.get(word);
+            if (persons == null) {
+                continue;
+            }
+            persons.remove(person);
+            if (persons.isEmpty()) {
+                personsByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Indexes the name of {@code editedPerson} in place of the name of {@code target}, which it replaces.
+     */
+    void set(Person target, Person editedPerson) {
+        if (!target.getName().equals(editedPerson.getName())) {
+            remove(target);
+            add(editedPerson);
+            return;
+        }
+        for (String word : target.getName().getLowerCaseWords()) {
+            List<Person> persons = personsByWord.get(word);
+            int index = persons == null ? -1 : persons.indexOf(target);
+            if (index >= 0) {
+                persons.set(index, editedPerson);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the whole index from {@code persons}.
+     */
+    void reset(List<Person> persons) {
+        personsByWord.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with any of {@code lowerCasePrefixes},
+     * without duplicates and in no particular order.
+     */
+    List<Person> find(Collection<String> lowerCasePrefixes) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String prefix : lowerCasePrefixes) {
+            String end = prefix + Character.MAX_VALUE;
+            personsByWord.subMap(prefix, true, end, false).values().forEach(matches::addAll);
+        }
+        return new ArrayList<>(matches);
+    }
+
+}
@@ -2,7 +2,9 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,16 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    boolean isJournalEnabled();
+
+    FsyncPolicy getFsyncPolicy();
+
+    StorageFormat getStorageFormat();
+
+    boolean isBackgroundLoadingEnabled();
+
+    boolean isCommandMetricsEnabled();
+
+    long getCommandMetricsLogIntervalSeconds();
+
 }
@@ -6,7 +6,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private boolean journalEnabled = false;
+    private FsyncPolicy fsyncPolicy = FsyncPolicy.ALWAYS;
+    private StorageFormat storageFormat = StorageFormat.JSON;
+    private boolean backgroundLoadingEnabled = false;
+    private boolean commandMetricsEnabled = true;
+    private long commandMetricsLogIntervalSeconds = 300;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +44,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setJournalEnabled(newUserPrefs.isJournalEnabled());
+        setFsyncPolicy(newUserPrefs.getFsyncPolicy());
+        setStorageFormat(newUserPrefs.getStorageFormat());
+        setBackgroundLoadingEnabled(newUserPrefs.isBackgroundLoadingEnabled());
+        setCommandMetricsEnabled(newUserPrefs.isCommandMetricsEnabled());
+        setCommandMetricsLogIntervalSeconds(newUserPrefs.getCommandMetricsLogIntervalSeconds());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +70,69 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns true if changes should be appended to a journal instead of rewriting the data file on every save.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    public FsyncPolicy getFsyncPolicy() {
+        return fsyncPolicy;
+    }
+
+    public void setFsyncPolicy(FsyncPolicy fsyncPolicy) {
+        requireNonNull(fsyncPolicy);
+        this.fsyncPolicy = fsyncPolicy;
+    }
+
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        requireNonNull(storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns true if the main window should be shown before the address book is loaded, with persons added to
+     * it page by page as they are read.
+     */
+    public boolean isBackgroundLoadingEnabled() {
+        return backgroundLoadingEnabled;
+    }
+
+    public void setBackgroundLoadingEnabled(boolean backgroundLoadingEnabled) {
+        this.backgroundLoadingEnabled = backgroundLoadingEnabled;
+    }
+
+    /**
+     * Returns true if the time taken by each command should be recorded, to be shown by the {@code stats} command.
+     */
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    /**
+     * Returns how often the recorded command timings are written to the log, in seconds, or 0 if they never are.
+     */
+    public long getCommandMetricsLogIntervalSeconds() {
+        return commandMetricsLogIntervalSeconds;
+    }
+
+    public void setCommandMetricsLogIntervalSeconds(long commandMetricsLogIntervalSeconds) {
+        this.commandMetricsLogIntervalSeconds = commandMetricsLogIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +146,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && journalEnabled == otherUserPrefs.journalEnabled
+                && fsyncPolicy == otherUserPrefs.fsyncPolicy
+                && storageFormat == otherUserPrefs.storageFormat
+                && backgroundLoadingEnabled == otherUserPrefs.backgroundLoadingEnabled
+                && commandMetricsEnabled == otherUserPrefs.commandMetricsEnabled
+                && commandMetricsLogIntervalSeconds == otherUserPrefs.commandMetricsLogIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, journalEnabled, fsyncPolicy, storageFormat,
+                backgroundLoadingEnabled, commandMetricsEnabled, commandMetricsLogIntervalSeconds);
     }
 
     @Override
@@ -82,6 +166,12 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nJournal enabled : " + journalEnabled);
+        sb.append("\nFsync policy : " + fsyncPolicy);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nBackground loading enabled : " + backgroundLoadingEnabled);
+        sb.append("\nCommand metrics enabled : " + commandMetricsEnabled);
+        sb.append("\nCommand metrics log interval : " + commandMetricsLogIntervalSeconds + "s");
         return sb.toString();
     }
 
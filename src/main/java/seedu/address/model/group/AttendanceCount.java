@@ -0,0 +1,84 @@
+package seedu.address.model.group;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * The number of persons in a group who were present, absent or not yet marked in one week.
+ * Guarantees: immutable.
+ */
+public class AttendanceCount {
+
+    public static final AttendanceCount NONE = new AttendanceCount(0, 0, 0);
+
+    private final int presentCount;
+    private final int absentCount;
+    private final int unmarkedCount;
+
+    /**
+     * Creates an {@code AttendanceCount} with the given counts, none of which may be negative.
+     */
+    public AttendanceCount(int presentCount, int absentCount, int unmarkedCount) {
+        assert presentCount >= 0 && absentCount >= 0 && unmarkedCount >= 0;
+        this.presentCount = presentCount;
+        this.absentCount = absentCount;
+        this.unmarkedCount = unmarkedCount;
+    }
+
+    public int getPresentCount() {
+        return presentCount;
+    }
+
+    public int getAbsentCount() {
+        return absentCount;
+    }
+
+    public int getUnmarkedCount() {
+        return unmarkedCount;
+    }
+
+    /**
+     * Returns the number of persons who track the week, whether or not they have been marked.
+     */
+    public int getTotal() {
+        return presentCount + absentCount + unmarkedCount;
+    }
+
+    /**
+     * Returns true if at least one person has been marked present or absent.
+     */
+    public boolean isMarked() {
+        return presentCount + absentCount > 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCount)) {
+            return false;
+        }
+
+        AttendanceCount otherCount = (AttendanceCount) other;
+        return presentCount == otherCount.presentCount
+                && absentCount == otherCount.absentCount
+                && unmarkedCount == otherCount.unmarkedCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return (presentCount * 31 + absentCount) * 31 + unmarkedCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("present", presentCount)
+                .add("absent", absentCount)
+                .add("unmarked", unmarkedCount)
+                .toString();
+    }
+
+}
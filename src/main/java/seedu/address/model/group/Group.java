@@ -4,7 +4,13 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.util.ValidationUtil;
 
 /**
  * Represents a Group in the address book.
@@ -26,28 +32,47 @@ public class Group {
     public static final String ATTENDANCE_VALIDATION_REGEX = "^[AP]$";
     public static final String WEEK_VALIDATION_REGEX = "^[1-9]\\d?$";
 
+    public static final int DEFAULT_WEEK_COUNT = 13;
+    public static final int MAX_WEEK_COUNT = 32;
+    public static final String UNMARKED = "_";
+    public static final String ABSENT = "A";
+    public static final String PRESENT = "P";
+    public static final String ATTENDANCE_LIST_MESSAGE_CONSTRAINTS = "Attendance should have at most "
+            + MAX_WEEK_COUNT + " weeks, each of which is " + UNMARKED + ", " + ABSENT + " or " + PRESENT + ". ";
+
+    private static final String[] GROUP_TYPES = {"TUT", "LAB", "REC"};
+    private static final Pattern LINK_VALIDATION_PATTERN = Pattern.compile(LINK_VALIDATION_REGEX);
+    private static final int PRESENT_SHIFT = 32;
+    private static final long WEEKS_MASK = 0xFFFFFFFFL;
+    // There are only a few hundred valid group names, so every group with the same name can share one string.
+    private static final ConcurrentMap<String, String> CANONICAL_NAMES = new ConcurrentHashMap<>();
+
     public final String groupName;
     public final String telegramLink;
-    public final List<String> attendance;
+
+    /*
+     * Attendance takes 2 bits per week: bit (week - 1) is set if the week is marked absent,
+     * and bit (PRESENT_SHIFT + week - 1) is set if the week is marked present.
+     */
+    private final long attendanceBits;
+    private final int weekCount;
 
     /**
-     * Constructs a {@code Group}.
+     * Constructs a {@code Group} with {@value #DEFAULT_WEEK_COUNT} unmarked weeks of attendance.
      *
      * @param groupName A valid group name.
      */
     public Group(String groupName) {
         requireNonNull(groupName);
         checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
-        this.groupName = groupName;
+        this.groupName = getCanonicalName(groupName);
         this.telegramLink = "";
-        this.attendance = new ArrayList<>();
-        for (int i = 0; i < 13; i++) {
-            attendance.add("_");
-        }
+        this.weekCount = DEFAULT_WEEK_COUNT;
+        this.attendanceBits = 0;
     }
 
     /**
-     * Constructs a {@code Group}.
+     * Constructs a {@code Group} without any attendance.
      *
      * @param groupName A valid group name.
      * @param link A valid Telegram link.
@@ -55,62 +80,172 @@ public class Group {
     public Group(String groupName, String link) {
         requireNonNull(groupName);
         checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
-        this.groupName = groupName;
+        this.groupName = getCanonicalName(groupName);
         this.telegramLink = link;
-        this.attendance = new ArrayList<>();
+        this.weekCount = 0;
+        this.attendanceBits = 0;
     }
 
     /**
      * Constructs a {@code Group}.
      *
      * @param groupName A valid group name.
-     * @param attendance A list of String to represent attendance.
+     * @param attendance A valid list of weekly attendance, as declared in {@link #isValidAttendanceList(List)}.
      */
     public Group(String groupName, List<String> attendance) {
         requireNonNull(groupName);
+        requireNonNull(attendance);
         checkArgument(isValidGroupName(groupName), MESSAGE_CONSTRAINTS);
-        this.groupName = groupName;
+        checkArgument(isValidAttendanceList(attendance), ATTENDANCE_LIST_MESSAGE_CONSTRAINTS);
+        this.groupName = getCanonicalName(groupName);
         this.telegramLink = "";
-        this.attendance = new ArrayList<>(attendance);
+        this.weekCount = attendance.size();
+        long bits = 0;
+        for (int week = 1; week <= weekCount; week++) {
+            bits |= toBits(week, attendance.get(week - 1));
+        }
+        this.attendanceBits = bits;
+    }
+
+    private Group(String groupName, String telegramLink, int weekCount, long attendanceBits) {
+        this.groupName = groupName;
+        this.telegramLink = telegramLink;
+        this.weekCount = weekCount;
+        this.attendanceBits = attendanceBits;
     }
 
     /**
-     * Marks attendance of given week.
+     * Returns a copy of this group with the attendance of {@code week} set to {@code update}.
      *
-     * @param week A valid week number.
-     * @param update A valid attendance.
+     * @param week A week number between 1 and the number of weeks of this group.
+     * @param update {@value #ABSENT}, {@value #PRESENT} or {@value #UNMARKED}.
      */
-    public void markAttendance(Integer week, String update) {
+    public Group withAttendance(int week, String update) {
         requireNonNull(update);
-        this.attendance.set(week - 1, update);
+        if (week < 1 || week > weekCount) {
+            throw new IndexOutOfBoundsException("Week " + week + " is not within " + weekCount + " weeks");
+        }
+        checkArgument(isValidAttendanceEntry(update), ATTENDANCE_MESSAGE_CONSTRAINTS);
+        long updatedBits = (attendanceBits & ~toBits(week, ABSENT) & ~toBits(week, PRESENT)) | toBits(week, update);
+        return new Group(groupName, telegramLink, weekCount, updatedBits);
+    }
+
+    private static String getCanonicalName(String groupName) {
+        return CANONICAL_NAMES.computeIfAbsent(groupName, name -> name);
+    }
+
+    private static long toBits(int week, String entry) {
+        switch (entry) {
+        case ABSENT:
+            return 1L << (week - 1);
+        case PRESENT:
+            return 1L << (PRESENT_SHIFT + week - 1);
+        default:
+            return 0;
+        }
+    }
+
+    public int getWeekCount() {
+        return weekCount;
+    }
+
+    /**
+     * Returns the attendance of {@code week}: {@value #ABSENT}, {@value #PRESENT} or {@value #UNMARKED}.
+     *
+     * @param week A week number between 1 and the number of weeks of this group.
+     */
+    public String getAttendance(int week) {
+        if (week < 1 || week > weekCount) {
+            throw new IndexOutOfBoundsException("Week " + week + " is not within " + weekCount + " weeks");
+        }
+        int weekBit = 1 << (week - 1);
+        if ((getPresentWeeksMask() & weekBit) != 0) {
+            return PRESENT;
+        }
+        return (getAbsentWeeksMask() & weekBit) != 0 ? ABSENT : UNMARKED;
+    }
+
+    /**
+     * Returns the attendance of every week in order, for display and storage.
+     */
+    public List<String> getAttendanceList() {
+        List<String> attendance = new ArrayList<>(weekCount);
+        for (int week = 1; week <= weekCount; week++) {
+            attendance.add(getAttendance(week));
+        }
+        return Collections.unmodifiableList(attendance);
+    }
+
+    /**
+     * Returns a mask with bit (week - 1) set for every week marked present.
+     */
+    public int getPresentWeeksMask() {
+        return (int) (attendanceBits >>> PRESENT_SHIFT);
+    }
+
+    /**
+     * Returns a mask with bit (week - 1) set for every week marked absent.
+     */
+    public int getAbsentWeeksMask() {
+        return (int) (attendanceBits & WEEKS_MASK);
+    }
+
+    /**
+     * Returns a mask with bit (week - 1) set for every week that has not been marked.
+     */
+    public int getUnmarkedWeeksMask() {
+        int allWeeks = (int) ((1L << weekCount) - 1);
+        return allWeeks & ~getPresentWeeksMask() & ~getAbsentWeeksMask();
+    }
+
+    public int getPresentCount() {
+        return Integer.bitCount(getPresentWeeksMask());
+    }
+
+    public int getAbsentCount() {
+        return Integer.bitCount(getAbsentWeeksMask());
     }
 
     /**
      * Returns true if a given string is a valid group name.
      */
     public static boolean isValidGroupName(String test) {
-        return test.matches(GROUP_NAME_VALIDATION_REGEX);
+        return ValidationUtil.isPrefixedNumber(test, GROUP_TYPES, 2);
     }
 
     /**
      * Returns true if a given string is a valid link.
      */
     public static boolean isValidLink(String test) {
-        return test.matches(LINK_VALIDATION_REGEX);
+        return LINK_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns true if a given string is a valid week.
      */
     public static boolean isValidWeek(String test) {
-        return test.matches(WEEK_VALIDATION_REGEX);
+        return ValidationUtil.isPositiveNumber(test, 2);
     }
 
     /**
      * Returns true if a given string is a valid attendance.
      */
     public static boolean isValidAttendance(String test) {
-        return test.matches(ATTENDANCE_VALIDATION_REGEX);
+        return ValidationUtil.isOneOf(test, ABSENT + PRESENT);
+    }
+
+    /**
+     * Returns true if a given string is a valid attendance of a single week, marked or not.
+     */
+    public static boolean isValidAttendanceEntry(String test) {
+        return UNMARKED.equals(test) || ABSENT.equals(test) || PRESENT.equals(test);
+    }
+
+    /**
+     * Returns true if a given list is a valid attendance of every week of a group.
+     */
+    public static boolean isValidAttendanceList(List<String> test) {
+        return test.size() <= MAX_WEEK_COUNT && test.stream().allMatch(Group::isValidAttendanceEntry);
     }
 
     @Override
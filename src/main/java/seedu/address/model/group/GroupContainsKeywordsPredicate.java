@@ -1,5 +1,6 @@
 package seedu.address.model.group;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -22,6 +23,10 @@ public class GroupContainsKeywordsPredicate implements Predicate<Person> {
         this.groups = keywords.stream().map(Group::new).collect(Collectors.toList());
     }
 
+    public List<Group> getGroups() {
+        return Collections.unmodifiableList(groups);
+    }
+
     @Override
     public boolean test(Person person) {
         Set<Group> personGroup = person.getGroups();
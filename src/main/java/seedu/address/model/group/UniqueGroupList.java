@@ -3,8 +3,12 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,9 @@ import seedu.address.model.group.exceptions.GroupNotFoundException;
  * unique in terms of identity in the UniqueGroupList. However, the removal of a group uses Group#equals(Object) so
  * as to ensure that the group with exactly the same fields will be removed.
  *
+ * A secondary index keyed by group name is kept in sync with the backing list, so that groups are looked up by
+ * name in constant time instead of scanning every group.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Group#isSameGroup(Group)
@@ -27,13 +34,22 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Group> groupsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return groupsByName.containsKey(toCheck.groupName);
+    }
+
+    /**
+     * Returns the group in the list named {@code groupName}, if any.
+     */
+    public Optional<Group> find(String groupName) {
+        requireNonNull(groupName);
+        return Optional.ofNullable(groupsByName.get(groupName));
     }
 
     /**
@@ -46,6 +62,20 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
         internalList.add(toAdd);
+        groupsByName.put(toAdd.groupName, toAdd);
+    }
+
+    /**
+     * Inserts a group at {@code index} of the list.
+     * The group must not already exist in the list.
+     */
+    public void add(int index, Group toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateGroupException();
+        }
+        internalList.add(index, toAdd);
+        groupsByName.put(toAdd.groupName, toAdd);
     }
 
     /**
@@ -66,22 +96,30 @@ public class UniqueGroupList implements Iterable<Group> {
         }
 
         internalList.set(index, editedGroup);
+        groupsByName.remove(target.groupName);
+        groupsByName.put(editedGroup.groupName, editedGroup);
     }
 
     /**
-     * Removes the equivalent group from the list.
+     * Removes the equivalent group from the list and returns the position it was at.
      * The group must exist in the list.
      */
-    public void remove(Group toRemove) {
+    public int remove(Group toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new GroupNotFoundException();
         }
+        internalList.remove(index);
+        groupsByName.remove(toRemove.groupName);
+        return index;
     }
 
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        groupsByName.clear();
+        groupsByName.putAll(replacement.groupsByName);
     }
 
     /**
@@ -90,11 +128,20 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(List<Group> groups) {
         requireAllNonNull(groups);
-        if (!groupsAreUnique(groups)) {
-            throw new DuplicateGroupException();
+        Map<String, Group> replacementIndex = new HashMap<>();
+        List<Group> duplicates = new ArrayList<>();
+        for (Group group : groups) {
+            if (replacementIndex.putIfAbsent(group.groupName, group) != null) {
+                duplicates.add(group);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicateGroupException(duplicates);
         }
 
         internalList.setAll(groups);
+        groupsByName.clear();
+        groupsByName.putAll(replacementIndex);
     }
 
     /**
@@ -133,18 +180,4 @@ public class UniqueGroupList implements Iterable<Group> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code groups} contains only unique groups.
-     */
-    private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
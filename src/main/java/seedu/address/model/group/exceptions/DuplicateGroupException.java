@@ -1,11 +1,39 @@
 package seedu.address.model.group.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.group.Group;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicateGroupException extends RuntimeException {
+
+    private final List<Group> duplicates;
+
     public DuplicateGroupException() {
         super("Operation would result in duplicate groups");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicateGroupException} that reports every group in {@code duplicates}.
+     */
+    public DuplicateGroupException(List<Group> duplicates) {
+        super("Operation would result in duplicate groups: " + duplicates.stream()
+                .map(group -> group.groupName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the offending groups, in the order they were encountered.
+     * Empty if the duplicates were not collected.
+     */
+    public List<Group> getDuplicates() {
+        return duplicates;
     }
 }
@@ -3,6 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +27,9 @@ public class Name {
 
     public final String fullName;
 
+    // Distinct lower case words of the full name, split once so that searches never split it again.
+    private final List<String> lowerCaseWords;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -29,15 +39,35 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        lowerCaseWords = Collections.unmodifiableList(
+                Arrays.stream(name.toLowerCase().split("\\s+")).distinct().collect(Collectors.toList()));
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isAlphanumericWords(test);
     }
 
+    /**
+     * Returns the distinct words of this name in lower case, in the order they appear.
+     */
+    public List<String> getLowerCaseWords() {
+        return lowerCaseWords;
+    }
+
+    /**
+     * Returns true if any word of this name starts with {@code lowerCasePrefix}.
+     */
+    public boolean hasWordStartingWith(String lowerCasePrefix) {
+        for (String word : lowerCaseWords) {
+            if (word.startsWith(lowerCasePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
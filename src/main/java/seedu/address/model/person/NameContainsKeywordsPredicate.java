@@ -1,9 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 
 /**
@@ -11,15 +12,36 @@ import seedu.address.commons.util.ToStringBuilder;
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Returns a NameContainsKeywordsPredicate matching names with a word that starts with any of {@code keywords},
+     * ignoring case. Blank keywords match nothing.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream()
+                .map(keyword -> keyword.trim().toLowerCase())
+                .filter(keyword -> !keyword.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the non-blank keywords in lower case.
+     */
+    public List<String> getLowerCaseKeywords() {
+        return Collections.unmodifiableList(lowerCaseKeywords);
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsStartingWordIgnoreCase(person.getName().fullName, keyword));
+        Name name = person.getName();
+        for (String keyword : lowerCaseKeywords) {
+            if (name.hasWordStartingWith(keyword)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
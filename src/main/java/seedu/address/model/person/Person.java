@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
@@ -16,6 +18,8 @@ import seedu.address.model.group.Group;
  */
 public class Person {
 
+    public static final String MESSAGE_GROUP_NOT_FOUND = "The person is not in the given group";
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -28,6 +32,9 @@ public class Person {
     private final Remark remark;
     private final Set<Group> groups = new HashSet<>();
 
+    // Computed on first use, as neither a person nor its groups can change after construction.
+    private int hashCode;
+
     /**
      * Every field must be present and not null.
      */
@@ -104,6 +111,19 @@ public class Person {
         return null;
     }
 
+    /**
+     * Returns a copy of this person with its group of the same name as {@code group} replaced by {@code group}.
+     * The person must be in a group of that name.
+     */
+    public Person withGroup(Group group) {
+        requireNonNull(group);
+        checkArgument(groups.contains(group), MESSAGE_GROUP_NOT_FOUND);
+        Set<Group> updatedGroups = new HashSet<>(groups);
+        updatedGroups.remove(group);
+        updatedGroups.add(group);
+        return new Person(name, phone, email, year, telegram, major, remark, updatedGroups);
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -145,8 +165,13 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, year, telegram, major, remark, groups);
+        int cachedHashCode = hashCode;
+        if (cachedHashCode == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            cachedHashCode = Objects.hash(name, phone, email, year, telegram, major, remark, groups);
+            hashCode = cachedHashCode;
+        }
+        return cachedHashCode;
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's Telegram handle in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidTelegram(String)}
@@ -31,7 +33,7 @@ public class Telegram {
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidTelegram(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isWordCharacters(test, 3);
     }
 
     @Override
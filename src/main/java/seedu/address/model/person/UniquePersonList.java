@@ -3,8 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +26,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * A secondary index keyed by {@code Name} is kept in sync with the backing list so that identity checks run in
+ * constant time instead of scanning every person.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +38,44 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the person in the list whose name is {@code name}, if any.
+     */
+    public Optional<Person> find(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Adds {@code toAdd} to the end of the list in a single change.
+     * The persons must not already exist in the list or appear twice in {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Name, Person> addedIndex = new HashMap<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (Person person : toAdd) {
+            if (personsByName.containsKey(person.getName())
+                    || addedIndex.putIfAbsent(person.getName(), person) != null) {
+                duplicates.add(person);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.addAll(toAdd);
+        personsByName.putAll(addedIndex);
     }
 
     /**
@@ -46,6 +88,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index} of the list.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
     }
 
     /**
@@ -56,7 +112,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,22 +122,111 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        personsByName.remove(target.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
+    }
+
+    /**
+     * Replaces every person that is a key of {@code editedPersons} with its value, as a single change to the list.
+     * Every key must exist in the list.
+     * The person identities of the list after the replacement must still be unique.
+     */
+    public void setPersons(Map<Person, Person> editedPersons) {
+        requireAllNonNull(editedPersons.keySet());
+        requireAllNonNull(editedPersons.values());
+
+        List<Person> updated = new ArrayList<>(internalList.size());
+        Map<Name, Person> updatedIndex = new HashMap<>();
+        List<Person> duplicates = new ArrayList<>();
+        int replacedCount = 0;
+        for (Person person : internalList) {
+            Person editedPerson = editedPersons.get(person);
+            if (editedPerson != null) {
+                person = editedPerson;
+                replacedCount++;
+            }
+            if (updatedIndex.putIfAbsent(person.getName(), person) != null) {
+                duplicates.add(person);
+            }
+            updated.add(person);
+        }
+        if (replacedCount != editedPersons.size()) {
+            throw new PersonNotFoundException();
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
+        }
+
+        internalList.setAll(updated);
+        personsByName.clear();
+        personsByName.putAll(updatedIndex);
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list and returns the position it was at.
      * The person must exist in the list.
      */
-    public void remove(Person toRemove) {
+    public int remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        personsByName.remove(toRemove.getName());
+        return index;
+    }
+
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list in a single change.
+     * The persons must exist in the list. If any of them does not, the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        Set<Person> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Person person : toRemove) {
+            Person candidate = findEqual(person);
+            if (candidate == null) {
+                throw new PersonNotFoundException();
+            }
+            removed.add(candidate);
+        }
+
+        internalList.removeAll(removed);
+        removed.forEach(person -> personsByName.remove(person.getName()));
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}, or null if there is none.
+     * Only the person with the same name is compared field by field.
+     */
+    private Person findEqual(Person person) {
+        Person candidate = personsByName.get(person.getName());
+        return candidate != null && candidate.equals(person) ? candidate : null;
+    }
+
+    /**
+     * Returns the position of the person in the list that is equal to {@code person}, or -1 if there is none.
+     * The position of the equal person is found by identity.
+     */
+    private int indexOf(Person person) {
+        Person candidate = findEqual(person);
+        if (candidate == null) {
+            return -1;
+        }
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == candidate) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        personsByName.clear();
+        personsByName.putAll(replacement.personsByName);
     }
 
     /**
@@ -90,11 +235,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<Name, Person> replacementIndex = new HashMap<>();
+        List<Person> duplicates = new ArrayList<>();
+        for (Person person : persons) {
+            if (replacementIndex.putIfAbsent(person.getName(), person) != null) {
+                duplicates.add(person);
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new DuplicatePersonException(duplicates);
         }
 
         internalList.setAll(persons);
+        personsByName.clear();
+        personsByName.putAll(replacementIndex);
     }
 
     /**
@@ -133,18 +287,4 @@ public class UniquePersonList implements Iterable<Person> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code persons} contains only unique persons.
-     */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
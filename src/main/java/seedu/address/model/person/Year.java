@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.ValidationUtil;
+
 /**
  * Represents a Person's year in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidYear(String)}
@@ -31,7 +33,7 @@ public class Year {
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidYear(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return ValidationUtil.isOneOf(test, "12345");
     }
 
 
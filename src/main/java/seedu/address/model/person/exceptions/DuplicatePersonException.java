@@ -1,11 +1,39 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+
+    private final List<Person> duplicates;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicates = Collections.emptyList();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every person in {@code duplicates}.
+     */
+    public DuplicatePersonException(List<Person> duplicates) {
+        super("Operation would result in duplicate persons: " + duplicates.stream()
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.joining(", ")));
+        this.duplicates = Collections.unmodifiableList(duplicates);
+    }
+
+    /**
+     * Returns the offending persons, in the order they were encountered.
+     * Empty if the duplicates were not collected.
+     */
+    public List<Person> getDuplicates() {
+        return duplicates;
     }
 }
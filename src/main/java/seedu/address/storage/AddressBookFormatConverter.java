@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for a {@link StorageFormat} and converts data files between formats.
+ * Every format stores all the data of the model, so converting back and forth loses nothing.
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter "
+            + "SOURCE_FORMAT SOURCE_FILE TARGET_FORMAT TARGET_FILE (formats: json, binary)";
+
+    private AddressBookFormatConverter() {} // prevents instantiation
+
+    /**
+     * Returns a storage that reads and writes {@code filePath} in the given {@code format}.
+     */
+    public static AddressBookStorage createStorage(Path filePath, StorageFormat format, FsyncPolicy fsyncPolicy) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        requireNonNull(fsyncPolicy);
+
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath, fsyncPolicy);
+        case JSON:
+            return new JsonAddressBookStorage(filePath, fsyncPolicy);
+        default:
+            throw new IllegalArgumentException("Unknown storage format: " + format);
+        }
+    }
+
+    /**
+     * Reads the address book at {@code source} in {@code sourceFormat} and writes it to {@code target}
+     * in {@code targetFormat}.
+     *
+     * @throws DataLoadingException if {@code source} is missing or cannot be read.
+     * @throws IOException if {@code target} cannot be written.
+     */
+    public static void convert(Path source, StorageFormat sourceFormat, Path target, StorageFormat targetFormat)
+            throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = createStorage(source, sourceFormat, FsyncPolicy.ALWAYS)
+                .readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(source.toString())));
+        createStorage(target, targetFormat, FsyncPolicy.ALWAYS).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Converts a data file from the command line.
+     */
+    public static void main(String[] args) throws DataLoadingException, IOException {
+        if (args.length != 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        StorageFormat sourceFormat = StorageFormat.valueOf(args[0].toUpperCase(Locale.ROOT));
+        StorageFormat targetFormat = StorageFormat.valueOf(args[2].toUpperCase(Locale.ROOT));
+        convert(Paths.get(args[1]), sourceFormat, Paths.get(args[3]), targetFormat);
+    }
+
+}
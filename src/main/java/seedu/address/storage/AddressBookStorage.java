@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -42,4 +44,13 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Persists {@code changes}, the modifications that turned the last saved state into {@code addressBook}.
+     * Implementations may write only the changed records or fall back to saving the whole address book.
+     * @param addressBook the current state, cannot be null.
+     * @param changes the changes since the last save, oldest first, cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException;
+
 }
@@ -0,0 +1,126 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in the compact binary format of {@link BinaryAddressBookStream}.
+ */
+public class BinaryAddressBookStorage implements PagedAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final AtomicFileWriter fileWriter;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for {@code filePath} that forces saves to disk according to
+     * {@code fsyncPolicy}.
+     */
+    public BinaryAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
+        this.filePath = filePath;
+        this.fileWriter = new AtomicFileWriter(fsyncPolicy);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        return readAddressBook(filePath, page -> {});
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInPages(Consumer<List<Person>> pageConsumer)
+            throws DataLoadingException {
+        requireNonNull(pageConsumer);
+        return readAddressBook(filePath, pageConsumer);
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> pageConsumer)
+            throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (InputStream in = new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)))) {
+            return Optional.of(BinaryAddressBookStream.readAddressBook(in, pageConsumer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a failed save leaves the previous content intact.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        fileWriter.write(filePath, out -> BinaryAddressBookStream.writeAddressBook(addressBook, out));
+    }
+
+    /**
+     * Rewrites the whole file, as the string table may change with any modification.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook, filePath);
+    }
+
+}
@@ -0,0 +1,300 @@
+package seedu.address.storage;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes an address book in a compact, versioned binary format.
+ *
+ * A file starts with {@link #MAGIC} and {@link #FORMAT_VERSION}, followed by a table of the distinct group names
+ * and majors, the group list, and the person list. Persons and groups refer to group names and majors by their
+ * index in the table. Attendance is packed into 2 bits per week; the plain string encoding written by earlier
+ * versions is still read.
+ * Strings are written as their UTF-8 byte count followed by the bytes, so they are not limited in length like
+ * the {@link DataOutputStream#writeUTF(String)} strings of version 1 files, which are still read.
+ * Values are validated by the same Jackson-friendly adapters used for the JSON format, persons in parallel.
+ */
+class BinaryAddressBookStream {
+
+    public static final int MAGIC = 0x41424B42; // "ABKB"
+    public static final int FORMAT_VERSION = 2;
+    public static final int FIRST_FORMAT_VERSION = 1;
+    public static final int MAX_PACKED_WEEKS = Group.MAX_WEEK_COUNT;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book version: %d";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Invalid string table index: %d";
+
+    private static final String[] ATTENDANCE_CODES = {"_", "A", "P"};
+    private static final int ATTENDANCE_PACKED = 0;
+    private static final int ATTENDANCE_RAW = 1;
+
+    private BinaryAddressBookStream() {} // prevents instantiation
+
+    /**
+     * Writes {@code addressBook} to {@code out}. {@code out} is flushed but not closed.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        StringTable table = new StringTable();
+        for (Group group : addressBook.getGroupList()) {
+            table.add(group.groupName);
+        }
+        for (Person person : addressBook.getPersonList()) {
+            table.add(person.getMajor().value);
+            for (Group group : person.getGroups()) {
+                table.add(group.groupName);
+            }
+        }
+
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeShort(FORMAT_VERSION);
+
+        writeVarInt(data, table.strings.size());
+        for (String string : table.strings) {
+            writeString(data, string);
+        }
+
+        writeVarInt(data, addressBook.getGroupList().size());
+        for (Group group : addressBook.getGroupList()) {
+            writeVarInt(data, table.indexOf(group.groupName));
+            writeNullableString(data, group.telegramLink);
+        }
+
+        writeVarInt(data, addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(data, person, table);
+        }
+        data.flush();
+    }
+
+    private static void writePerson(DataOutputStream data, Person person, StringTable table) throws IOException {
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getYear().value);
+        writeString(data, person.getTelegram().value);
+        writeVarInt(data, table.indexOf(person.getMajor().value));
+        writeString(data, person.getRemark().value);
+
+        writeVarInt(data, person.getGroups().size());
+        for (Group group : person.getGroups()) {
+            writeVarInt(data, table.indexOf(group.groupName));
+            writeAttendance(data, group);
+        }
+    }
+
+    /**
+     * Writes the attendance of {@code group} in the packed encoding, whose 2-bit codes index
+     * {@link #ATTENDANCE_CODES}.
+     */
+    private static void writeAttendance(DataOutputStream data, Group group) throws IOException {
+        long packed = 0;
+        int absentWeeks = group.getAbsentWeeksMask();
+        int presentWeeks = group.getPresentWeeksMask();
+        for (int week = 0; week < group.getWeekCount(); week++) {
+            long code = ((absentWeeks >>> week) & 1) | (((presentWeeks >>> week) & 1) << 1);
+            packed |= code << (2 * week);
+        }
+
+        writeVarInt(data, group.getWeekCount());
+        data.writeByte(ATTENDANCE_PACKED);
+        data.writeLong(packed);
+    }
+
+    /**
+     * Reads an address book from {@code in}.
+     *
+     * @throws IOException if {@code in} could not be read or is not in this format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        return readAddressBook(in, page -> {});
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(InputStream)}, also handing every converted page of persons to
+     * {@code pageConsumer} as soon as it is ready.
+     */
+    public static AddressBook readAddressBook(InputStream in, Consumer<List<Person>> pageConsumer)
+            throws IOException, IllegalValueException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = data.readUnsignedShort();
+        if (version < FIRST_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tableSize = readVarInt(data);
+        List<String> tableEntries = new ArrayList<>();
+        for (int i = 0; i < tableSize; i++) {
+            tableEntries.add(readString(data, version));
+        }
+        String[] table = tableEntries.toArray(new String[0]);
+
+        AddressBook addressBook = new AddressBook();
+        int groupCount = readVarInt(data);
+        for (int i = 0; i < groupCount; i++) {
+            String groupName = lookUp(table, readVarInt(data));
+            Group group = new JsonAdaptedGroup(groupName, readNullableString(data, version)).toModelType();
+            if (addressBook.hasGroup(group)) {
+                throw new IllegalValueException(JsonAddressBookStream.MESSAGE_DUPLICATE_GROUP);
+            }
+            addressBook.addGroup(group);
+        }
+
+        int personCount = readVarInt(data);
+        ParallelPersonConverter converter = new ParallelPersonConverter(pageConsumer);
+        for (int i = 0; i < personCount; i++) {
+            converter.add(readPerson(data, table, version));
+        }
+        addressBook.setPersons(converter.finish());
+
+        addressBook.markChangesSaved();
+        return addressBook;
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream data, String[] table, int version)
+            throws IOException {
+        String name = readString(data, version);
+        String phone = readString(data, version);
+        String email = readString(data, version);
+        String year = readString(data, version);
+        String telegram = readString(data, version);
+        String major = lookUp(table, readVarInt(data));
+        String remark = readString(data, version);
+
+        int groupCount = readVarInt(data);
+        List<JsonAdaptedPersonGroupAttendance> groups = new ArrayList<>();
+        for (int i = 0; i < groupCount; i++) {
+            String groupName = lookUp(table, readVarInt(data));
+            groups.add(new JsonAdaptedPersonGroupAttendance(groupName, readAttendance(data, version)));
+        }
+        return new JsonAdaptedPerson(name, phone, email, year, telegram, major, remark, groups);
+    }
+
+    private static List<String> readAttendance(DataInputStream data, int version) throws IOException {
+        int weeks = readVarInt(data);
+        int encoding = data.readUnsignedByte();
+        List<String> attendance = new ArrayList<>();
+        if (encoding == ATTENDANCE_PACKED) {
+            if (weeks > MAX_PACKED_WEEKS) {
+                throw new IOException("Too many weeks of packed attendance: " + weeks);
+            }
+            long packed = data.readLong();
+            for (int week = 0; week < weeks; week++) {
+                int code = (int) (packed >>> (2 * week)) & 0b11;
+                if (code >= ATTENDANCE_CODES.length) {
+                    throw new IOException("Invalid packed attendance code: " + code);
+                }
+                attendance.add(ATTENDANCE_CODES[code]);
+            }
+        } else if (encoding == ATTENDANCE_RAW) {
+            for (int week = 0; week < weeks; week++) {
+                attendance.add(readNullableString(data, version));
+            }
+        } else {
+            throw new IOException("Unknown attendance encoding: " + encoding);
+        }
+        return attendance;
+    }
+
+    private static String lookUp(String[] table, int index) throws IOException {
+        if (index < 0 || index >= table.length) {
+            throw new IOException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+        }
+        return table[index];
+    }
+
+    /**
+     * Writes {@code value} as its UTF-8 byte count followed by the bytes.
+     */
+    private static void writeString(DataOutputStream data, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(data, bytes.length);
+        data.write(bytes);
+    }
+
+    private static String readString(DataInputStream data, int version) throws IOException {
+        if (version == FIRST_FORMAT_VERSION) {
+            return data.readUTF();
+        }
+        byte[] bytes = new byte[readVarInt(data)];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(DataOutputStream data, String value) throws IOException {
+        data.writeBoolean(value != null);
+        if (value != null) {
+            writeString(data, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream data, int version) throws IOException {
+        return data.readBoolean() ? readString(data, version) : null;
+    }
+
+    /**
+     * Writes a non-negative {@code value} in as few bytes as possible, 7 bits at a time.
+     */
+    private static void writeVarInt(DataOutputStream data, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            data.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            int b = data.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length or index: " + value);
+                }
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    /**
+     * Distinct strings in the order they were first added.
+     */
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indices = new HashMap<>();
+
+        void add(String string) {
+            if (!indices.containsKey(string)) {
+                indices.put(string, strings.size());
+                strings.add(string);
+            }
+        }
+
+        int indexOf(String string) {
+            return indices.get(string);
+        }
+    }
+
+}
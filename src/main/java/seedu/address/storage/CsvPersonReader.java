@@ -0,0 +1,190 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads persons from a CSV file whose first line names its columns, such as a class list exported from a
+ * spreadsheet. The file is streamed line by line into a {@link ParallelPersonConverter}, so rows are validated
+ * exactly like persons in the data file, in parallel, and every invalid row is reported with its line number.
+ *
+ * Fields may be quoted to contain commas, with {@code ""} standing for a quote, but may not span lines.
+ * The groups of a person are separated by spaces and start with no attendance marked.
+ */
+public class CsvPersonReader {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_EMAIL = "email";
+    public static final String COLUMN_YEAR = "year";
+    public static final String COLUMN_MAJOR = "major";
+    public static final String COLUMN_TELEGRAM = "telegram";
+    public static final String COLUMN_REMARK = "remark";
+    public static final String COLUMN_GROUPS = "groups";
+    public static final List<String> REQUIRED_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_YEAR, COLUMN_MAJOR, COLUMN_TELEGRAM));
+    public static final List<String> COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_YEAR, COLUMN_MAJOR, COLUMN_TELEGRAM, COLUMN_REMARK,
+            COLUMN_GROUPS));
+
+    public static final String MESSAGE_MISSING_HEADER = "The file is empty. Its first line must name the columns: "
+            + String.join(",", COLUMNS);
+    public static final String MESSAGE_MISSING_COLUMN = "Line 1: Column %s is missing";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "Line 1: Column %s is unknown. The columns are: "
+            + String.join(",", COLUMNS);
+    public static final String MESSAGE_REPEATED_COLUMN = "Line 1: Column %s appears more than once";
+    public static final String MESSAGE_FIELD_COUNT = "Expected %d fields but found %d";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed";
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private CsvPersonReader() {} // prevents instantiation
+
+    /**
+     * Reads every person in the CSV file at {@code filePath}, in file order.
+     * Every valid person that is not repeated in the file is also passed to {@code check}, which returns why the
+     * person cannot be accepted, such as being in the address book already, or null if it can.
+     *
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException listing every invalid, repeated or rejected row with its line number, one per
+     *     line, or if the header is invalid.
+     */
+    public static List<Person> read(Path filePath, Function<Person, String> check)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        requireNonNull(check);
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || headerLine.isBlank()) {
+                throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+            }
+            if (headerLine.charAt(0) == BYTE_ORDER_MARK) {
+                headerLine = headerLine.substring(1);
+            }
+            Map<String, Integer> columnIndexes = parseHeader(headerLine);
+
+            ParallelPersonConverter converter = ParallelPersonConverter.forLines(check);
+            int lineNumber = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    List<String> fields = parseLine(line);
+                    if (fields.size() != columnIndexes.size()) {
+                        throw new IllegalValueException(String.format(MESSAGE_FIELD_COUNT, columnIndexes.size(),
+                                fields.size()));
+                    }
+                    converter.add(toAdaptedPerson(fields, columnIndexes), lineNumber);
+                } catch (IllegalValueException e) {
+                    converter.reject(lineNumber, e.getMessage());
+                }
+            }
+            return converter.finish();
+        }
+    }
+
+    private static Map<String, Integer> parseHeader(String headerLine) throws IllegalValueException {
+        List<String> columns = parseLine(headerLine);
+        Map<String, Integer> columnIndexes = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).toLowerCase(Locale.ROOT);
+            if (!COLUMNS.contains(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_COLUMN, columns.get(i)));
+            }
+            if (columnIndexes.putIfAbsent(column, i) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_REPEATED_COLUMN, columns.get(i)));
+            }
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columnIndexes.containsKey(column)) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+        return columnIndexes;
+    }
+
+    /**
+     * Returns the trimmed fields of {@code line}.
+     *
+     * @throws IllegalValueException if a quoted field is not closed.
+     */
+    static List<String> parseLine(String line) throws IllegalValueException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (isQuoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (c == ',') {
+                fields.add(field.toString().trim());
+                field.setLength(0);
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                isQuoted = true;
+            } else {
+                field.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new IllegalValueException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        fields.add(field.toString().trim());
+        return fields;
+    }
+
+    private static JsonAdaptedPerson toAdaptedPerson(List<String> fields, Map<String, Integer> columnIndexes) {
+        List<JsonAdaptedPersonGroupAttendance> groups = new ArrayList<>();
+        String groupNames = getField(fields, columnIndexes, COLUMN_GROUPS);
+        if (groupNames != null) {
+            for (String groupName : groupNames.split("\\s+")) {
+                groups.add(new JsonAdaptedPersonGroupAttendance(groupName, null));
+            }
+        }
+        String remark = getField(fields, columnIndexes, COLUMN_REMARK);
+        return new JsonAdaptedPerson(getField(fields, columnIndexes, COLUMN_NAME),
+                getField(fields, columnIndexes, COLUMN_PHONE), getField(fields, columnIndexes, COLUMN_EMAIL),
+                getField(fields, columnIndexes, COLUMN_YEAR), getField(fields, columnIndexes, COLUMN_TELEGRAM),
+                getField(fields, columnIndexes, COLUMN_MAJOR), remark == null ? "" : remark, groups);
+    }
+
+    /**
+     * Returns the field of {@code column}, or null if the file has no such column or the field is empty,
+     * so that a missing field is reported as missing rather than as invalid.
+     */
+    private static String getField(List<String> fields, Map<String, Integer> columnIndexes, String column) {
+        Integer index = columnIndexes.get(column);
+        if (index == null || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+}
@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * An {@code AddressBookStorage} that appends each change to a journal file next to a full snapshot
+ * instead of rewriting the snapshot after every modification.
+ *
+ * The journal holds one JSON entry per line and lives at the snapshot path with {@value #JOURNAL_FILE_SUFFIX}
+ * appended. Reading replays the journal on top of the snapshot. Once the journal grows past the compaction
+ * threshold, or a change replaces the whole address book, the snapshot is rewritten and the journal discarded.
+ *
+ * The first line of the journal names the checksum of the snapshot its entries follow. A journal left behind by a
+ * crash between rewriting the snapshot and discarding the journal no longer matches and is not replayed.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 100;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+    private static final String SNAPSHOT_HEADER_PREFIX = "#snapshot ";
+
+    private final AddressBookStorage snapshotStorage;
+    private final AtomicFileWriter fileWriter;
+    private final int compactionThreshold;
+    private int journalEntryCount = -1;
+
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, FsyncPolicy fsyncPolicy) {
+        this(snapshotStorage, fsyncPolicy, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} that keeps snapshots in {@code snapshotStorage}, forces journal
+     * appends to disk according to {@code fsyncPolicy} and compacts the journal once it would hold more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournalAddressBookStorage(AddressBookStorage snapshotStorage, FsyncPolicy fsyncPolicy,
+            int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(fsyncPolicy);
+        if (compactionThreshold < 1) {
+            throw new IllegalArgumentException("Compaction threshold must be positive: " + compactionThreshold);
+        }
+        this.snapshotStorage = snapshotStorage;
+        this.fileWriter = new AtomicFileWriter(fsyncPolicy);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Returns the location of the journal that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any.
+     * A journal without a snapshot, or written against an older snapshot, is ignored.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!snapshot.isPresent() || !Files.exists(journalFilePath)) {
+            return snapshot;
+        }
+
+        AddressBook addressBook = new AddressBook(snapshot.get());
+        try {
+            replayJournal(journalFilePath, computeChecksum(filePath), addressBook);
+        } catch (IOException | IllegalValueException e) {
+            logger.info("Unable to replay journal " + journalFilePath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+        addressBook.markChangesSaved();
+        return Optional.of(addressBook);
+    }
+
+    private void replayJournal(Path journalFilePath, String snapshotChecksum, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(toHeader(snapshotChecksum))) {
+            logger.warning("Ignoring journal " + journalFilePath + " as it does not follow the current snapshot");
+            return;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            JsonAdaptedAddressBookChange entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedAddressBookChange.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // An interrupted append leaves a partial last line; everything before it is intact.
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    break;
+                }
+                throw new IOException("Malformed journal entry on line " + (i + 1), e);
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                throw new IllegalValueException("Line " + (i + 1) + ": " + ive.getMessage(), ive);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Writes a full snapshot of {@code addressBook} to {@code filePath} and discards its journal.
+     * The old journal no longer matches the new snapshot, so it is never replayed even if discarding it fails.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isOwnFile = filePath.equals(getAddressBookFilePath());
+        if (isOwnFile) {
+            journalEntryCount = -1;
+        }
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        if (isOwnFile) {
+            journalEntryCount = 0;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, or compacts into a new snapshot when the journal cannot
+     * reproduce {@code addressBook} cheaply.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(changes);
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        Path filePath = getAddressBookFilePath();
+        if (!Files.exists(filePath) || containsReset(changes) || isJournalFull(changes.size())) {
+            logger.fine("Compacting journal into snapshot " + filePath);
+            saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Path journalFilePath = getJournalFilePath(filePath);
+        List<String> lines = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            lines.add(toHeader(computeChecksum(filePath)));
+        }
+        for (AddressBookChange change : changes) {
+            lines.add(JsonUtil.toCompactJsonString(new JsonAdaptedAddressBookChange(change)));
+        }
+        fileWriter.append(journalFilePath, out -> {
+            for (String line : lines) {
+                out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+        });
+        journalEntryCount += changes.size();
+    }
+
+    private static boolean containsReset(List<AddressBookChange> changes) {
+        return changes.stream().anyMatch(change -> change.getType() == AddressBookChange.Type.RESET);
+    }
+
+    private boolean isJournalFull(int entriesToAppend) throws IOException {
+        if (journalEntryCount < 0) {
+            journalEntryCount = countJournalEntries(getJournalFilePath(getAddressBookFilePath()));
+        }
+        return journalEntryCount + entriesToAppend > compactionThreshold;
+    }
+
+    /**
+     * Returns the number of entries in the journal left by a previous session.
+     * A journal whose last entry is incomplete, or that does not follow the current snapshot, counts as full,
+     * so that it is compacted away instead of having new entries appended to it.
+     */
+    private int countJournalEntries(Path journalFilePath) throws IOException {
+        if (!Files.exists(journalFilePath)) {
+            return 0;
+        }
+        byte[] content = Files.readAllBytes(journalFilePath);
+        if (content.length > 0 && content[content.length - 1] != '\n') {
+            return compactionThreshold;
+        }
+        String header = toHeader(computeChecksum(getAddressBookFilePath())) + "\n";
+        if (!new String(content, StandardCharsets.UTF_8).startsWith(header)) {
+            return compactionThreshold;
+        }
+        int count = -1;
+        for (byte b : content) {
+            if (b == '\n') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static String toHeader(String snapshotChecksum) {
+        return SNAPSHOT_HEADER_PREFIX + snapshotChecksum;
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the snapshot at {@code filePath} as a fixed-width hexadecimal string.
+     */
+    private static String computeChecksum(Path filePath) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return String.format("%08x", crc.getValue());
+    }
+
+}
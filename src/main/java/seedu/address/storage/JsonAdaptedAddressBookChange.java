@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.exceptions.DuplicateGroupException;
+import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Jackson-friendly version of {@link AddressBookChange}, used as a single journal entry.
+ * Persons and groups being replaced or removed are identified by name only.
+ */
+class JsonAdaptedAddressBookChange {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_INVALID_TYPE = "Journal entry has an unknown type: %s";
+    public static final String MESSAGE_UNKNOWN_PERSON = "Journal entry refers to a missing person: %s";
+    public static final String MESSAGE_UNKNOWN_GROUP = "Journal entry refers to a missing group: %s";
+    public static final String MESSAGE_CANNOT_APPLY = "Journal entry cannot be applied: %s";
+
+    private final String type;
+    private final String target;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedGroup group;
+
+    /**
+     * Constructs a {@code JsonAdaptedAddressBookChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedAddressBookChange(@JsonProperty("type") String type, @JsonProperty("target") String target,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("group") JsonAdaptedGroup group) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.group = group;
+    }
+
+    /**
+     * Converts a given {@code AddressBookChange} into this class for Jackson use.
+     */
+    public JsonAdaptedAddressBookChange(AddressBookChange source) {
+        type = source.getType().name();
+        if (source.getTargetPerson() != null) {
+            target = source.getTargetPerson().getName().fullName;
+        } else if (source.getTargetGroup() != null) {
+            target = source.getTargetGroup().groupName;
+        } else {
+            target = null;
+        }
+        person = source.getPerson() == null ? null : new JsonAdaptedPerson(source.getPerson());
+        group = source.getGroup() == null ? null : new JsonAdaptedGroup(source.getGroup());
+    }
+
+    /**
+     * Replays this journal entry on {@code addressBook}.
+     *
+     * @throws IllegalValueException if the entry is malformed or does not fit the current address book.
+     */
+    public void applyTo(AddressBook addressBook) throws IllegalValueException {
+        AddressBookChange.Type changeType = toChangeType();
+        try {
+            switch (changeType) {
+            case ADD_PERSON:
+                addressBook.addPerson(toModelPerson());
+                break;
+            case SET_PERSON:
+                addressBook.setPerson(findTargetPerson(addressBook), toModelPerson());
+                break;
+            case REMOVE_PERSON:
+                addressBook.removePerson(findTargetPerson(addressBook));
+                break;
+            case ADD_GROUP:
+                addressBook.addGroup(toModelGroup());
+                break;
+            case SET_GROUP:
+                addressBook.setGroup(toTargetGroup(), toModelGroup());
+                break;
+            case REMOVE_GROUP:
+                addressBook.removeGroup(toTargetGroup());
+                break;
+            default:
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+            }
+        } catch (DuplicatePersonException | DuplicateGroupException e) {
+            throw new IllegalValueException(String.format(MESSAGE_CANNOT_APPLY, e.getMessage()), e);
+        } catch (PersonNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, target), e);
+        } catch (GroupNotFoundException e) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_GROUP, target), e);
+        }
+    }
+
+    private AddressBookChange.Type toChangeType() throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+        try {
+            return AddressBookChange.Type.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_TYPE, type));
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private Group toModelGroup() throws IllegalValueException {
+        if (group == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "group"));
+        }
+        return group.toModelType();
+    }
+
+    private Person findTargetPerson(AddressBook addressBook) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (!Name.isValidName(target)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return addressBook.findPerson(new Name(target))
+                .orElseThrow(() -> new IllegalValueException(String.format(MESSAGE_UNKNOWN_PERSON, target)));
+    }
+
+    private Group toTargetGroup() throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (!Group.isValidGroupName(target)) {
+            throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
+        }
+        return new Group(target);
+    }
+
+}
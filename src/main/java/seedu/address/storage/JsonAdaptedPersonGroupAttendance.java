@@ -30,7 +30,7 @@ class JsonAdaptedPersonGroupAttendance {
      */
     public JsonAdaptedPersonGroupAttendance(Group source) {
         groupName = source.groupName;
-        attendance = source.attendance;
+        attendance = source.getAttendanceList();
     }
 
     /**
@@ -42,6 +42,12 @@ class JsonAdaptedPersonGroupAttendance {
         if (!Group.isValidGroupName(groupName)) {
             throw new IllegalValueException(Group.MESSAGE_CONSTRAINTS);
         }
+        if (attendance == null) {
+            return new Group(groupName);
+        }
+        if (!Group.isValidAttendanceList(attendance)) {
+            throw new IllegalValueException(Group.ATTENDANCE_LIST_MESSAGE_CONSTRAINTS);
+        }
         return new Group(groupName, attendance);
     }
 
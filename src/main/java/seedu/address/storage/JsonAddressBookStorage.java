@@ -2,29 +2,50 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import seedu.address.commons.core.FsyncPolicy;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.AtomicFileWriter;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is streamed one person or group at a time instead of being held in memory as a whole.
  */
-public class JsonAddressBookStorage implements AddressBookStorage {
+public class JsonAddressBookStorage implements PagedAddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final AtomicFileWriter fileWriter;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that forces saves to disk according to
+     * {@code fsyncPolicy}.
+     */
+    public JsonAddressBookStorage(Path filePath, FsyncPolicy fsyncPolicy) {
         this.filePath = filePath;
+        this.fileWriter = new AtomicFileWriter(fsyncPolicy);
     }
 
     public Path getAddressBookFilePath() {
@@ -44,15 +65,28 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return readAddressBook(filePath, page -> {});
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBookInPages(Consumer<List<Person>> pageConsumer)
+            throws DataLoadingException {
+        requireNonNull(pageConsumer);
+        return readAddressBook(filePath, pageConsumer);
+    }
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+    private Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> pageConsumer)
+            throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (InputStream in = new BufferedInputStream(
+                Channels.newInputStream(FileChannel.open(filePath, StandardOpenOption.READ)))) {
+            return Optional.of(JsonAddressBookStream.readAddressBook(in, pageConsumer));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -66,6 +100,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The file is replaced atomically, so a failed save leaves the previous content intact.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +108,17 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        fileWriter.write(filePath, out -> JsonAddressBookStream.writeAddressBook(addressBook, out));
+    }
+
+    /**
+     * Rewrites the whole file, as a single JSON document cannot be updated in place.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+            throws IOException {
+        requireNonNull(changes);
+        saveAddressBook(addressBook, filePath);
     }
 
 }
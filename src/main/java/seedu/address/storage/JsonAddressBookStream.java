@@ -0,0 +1,125 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Reads and writes the JSON form of an address book token by token, in the same layout as
+ * {@link JsonSerializableAddressBook}.
+ * Persons are read into batches of their Jackson-friendly form and converted in parallel by
+ * {@link ParallelPersonConverter}, so memory used on top of the {@code AddressBook} itself does not grow with
+ * the number of persons.
+ */
+class JsonAddressBookStream {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+    public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Expected %s but found %s";
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GROUPS_FIELD = "groups";
+
+    private JsonAddressBookStream() {} // prevents instantiation
+
+    /**
+     * Reads an address book from {@code in}, converting each person and group as soon as it is parsed.
+     *
+     * @throws IOException if {@code in} could not be read or does not hold well-formed JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readAddressBook(InputStream in) throws IOException, IllegalValueException {
+        return readAddressBook(in, page -> {});
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(InputStream)}, also handing every converted page of persons to
+     * {@code pageConsumer} as soon as it is ready.
+     */
+    public static AddressBook readAddressBook(InputStream in, Consumer<List<Person>> pageConsumer)
+            throws IOException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readPersons(parser, addressBook, pageConsumer);
+                } else if (GROUPS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    readGroups(parser, addressBook);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        }
+        addressBook.markChangesSaved();
+        return addressBook;
+    }
+
+    private static void readPersons(JsonParser parser, AddressBook addressBook, Consumer<List<Person>> pageConsumer)
+            throws IOException, IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter(pageConsumer);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            converter.add(parser.readValueAs(JsonAdaptedPerson.class));
+        }
+        addressBook.setPersons(converter.finish());
+    }
+
+    private static void readGroups(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            expect(parser.getCurrentToken(), JsonToken.START_OBJECT);
+            Group group = parser.readValueAs(JsonAdaptedGroup.class).toModelType();
+            if (addressBook.hasGroup(group)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
+            }
+            addressBook.addGroup(group);
+        }
+    }
+
+    private static void expect(JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException(String.format(MESSAGE_UNEXPECTED_TOKEN, expected, actual));
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}, converting each person and group just before it is written.
+     * {@code out} is flushed but not closed.
+     */
+    public static void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        JsonGenerator generator = JsonUtil.createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : addressBook.getPersonList()) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(GROUPS_FIELD);
+        for (Group group : addressBook.getGroupList()) {
+            generator.writeObject(new JsonAdaptedGroup(group));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.close();
+    }
+
+}
@@ -0,0 +1,27 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@link AddressBookStorage} that can hand over persons page by page while the address book is being read.
+ */
+public interface PagedAddressBookStorage extends AddressBookStorage {
+
+    /**
+     * Similar to {@link #readAddressBook()}, but also hands every page of persons to {@code pageConsumer}, in file
+     * order, as soon as it has been read and validated. The returned address book holds the same persons, followed
+     * by the groups, which are only known once the whole file has been read.
+     * If a {@code DataLoadingException} is thrown, the pages already handed over must be discarded.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    Optional<ReadOnlyAddressBook> readAddressBookInPages(Consumer<List<Person>> pageConsumer)
+            throws DataLoadingException;
+
+}
@@ -0,0 +1,195 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts Jackson-friendly persons into the model's {@code Person}s on the common fork-join pool.
+ * Records are handed over in file order and converted a batch at a time, so only one batch is held in its
+ * Jackson-friendly form. Every invalid or duplicate record is reported with its 1-based position, instead of
+ * stopping at the first one.
+ */
+class ParallelPersonConverter {
+
+    public static final int BATCH_SIZE = 4096;
+    public static final String MESSAGE_INVALID_RECORD = "Person %d: %s";
+    public static final String MESSAGE_DUPLICATE_RECORD = "Person %d: %s (same name as person %d)";
+    public static final String MESSAGE_INVALID_LINE = "Line %d: %s";
+    public static final String MESSAGE_DUPLICATE_LINE = "Line %d: %s (same name as line %d)";
+
+    // Batches smaller than this are converted on the calling thread, as splitting them costs more than it saves.
+    private static final int MIN_PARALLEL_BATCH_SIZE = 64;
+
+    private final Consumer<List<Person>> pageConsumer;
+    private final String invalidRecordFormat;
+    private final String duplicateRecordFormat;
+    private final Function<Person, String> check;
+    private final List<Record> batch = new ArrayList<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Map<Name, Integer> positionsByName = new HashMap<>();
+    private final List<String> errors = new ArrayList<>();
+    private int addedCount = 0;
+
+    public ParallelPersonConverter() {
+        this(page -> {});
+    }
+
+    /**
+     * Creates a {@code ParallelPersonConverter} that hands each converted batch to {@code pageConsumer},
+     * until the first invalid or duplicate record is found.
+     */
+    public ParallelPersonConverter(Consumer<List<Person>> pageConsumer) {
+        this(pageConsumer, MESSAGE_INVALID_RECORD, MESSAGE_DUPLICATE_RECORD, person -> null);
+    }
+
+    private ParallelPersonConverter(Consumer<List<Person>> pageConsumer, String invalidRecordFormat,
+            String duplicateRecordFormat, Function<Person, String> check) {
+        requireNonNull(pageConsumer);
+        this.pageConsumer = pageConsumer;
+        this.invalidRecordFormat = invalidRecordFormat;
+        this.duplicateRecordFormat = duplicateRecordFormat;
+        this.check = check;
+    }
+
+    /**
+     * Returns a {@code ParallelPersonConverter} for the lines of a text file, which reports records by line number.
+     * Every valid person that is not a duplicate is also passed to {@code check}, in file order, which returns why
+     * the person cannot be accepted, or null if it can.
+     */
+    public static ParallelPersonConverter forLines(Function<Person, String> check) {
+        requireNonNull(check);
+        return new ParallelPersonConverter(page -> {}, MESSAGE_INVALID_LINE, MESSAGE_DUPLICATE_LINE, check);
+    }
+
+    /**
+     * Queues {@code adaptedPerson} as the next record, converting the queued batch once it is full.
+     */
+    public void add(JsonAdaptedPerson adaptedPerson) {
+        add(adaptedPerson, addedCount + 1);
+    }
+
+    /**
+     * Queues {@code adaptedPerson} as the next record, reported at {@code position}, such as its line number.
+     * Positions must increase from one record to the next.
+     */
+    public void add(JsonAdaptedPerson adaptedPerson, int position) {
+        queue(new Record(adaptedPerson, position, null));
+    }
+
+    /**
+     * Queues a record at {@code position} that could not be read, so that {@code failure} is reported in order
+     * with the other records.
+     */
+    public void reject(int position, String failure) {
+        queue(new Record(null, position, failure));
+    }
+
+    /**
+     * Converts the remaining records and returns every person in the order they were added.
+     *
+     * @throws IllegalValueException listing every invalid or duplicate record, one per line, if there are any.
+     */
+    public List<Person> finish() throws IllegalValueException {
+        convertBatch();
+        if (!errors.isEmpty()) {
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+        return persons;
+    }
+
+    /**
+     * Converts {@code adaptedPersons} in order.
+     *
+     * @throws IllegalValueException listing every invalid or duplicate record, one per line, if there are any.
+     */
+    public static List<Person> convert(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        ParallelPersonConverter converter = new ParallelPersonConverter();
+        adaptedPersons.forEach(converter::add);
+        return converter.finish();
+    }
+
+    private void queue(Record record) {
+        batch.add(record);
+        addedCount++;
+        if (batch.size() >= BATCH_SIZE) {
+            convertBatch();
+        }
+    }
+
+    private void convertBatch() {
+        int size = batch.size();
+        Person[] converted = new Person[size];
+        String[] failures = new String[size];
+        IntStream indices = IntStream.range(0, size);
+        if (size >= MIN_PARALLEL_BATCH_SIZE) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            Record record = batch.get(i);
+            if (record.failure != null) {
+                failures[i] = record.failure;
+                return;
+            }
+            try {
+                converted[i] = record.adaptedPerson.toModelType();
+            } catch (IllegalValueException | IllegalArgumentException e) {
+                failures[i] = e.getMessage();
+            }
+        });
+
+        int acceptedCount = 0;
+        for (int i = 0; i < size; i++) {
+            int position = batch.get(i).position;
+            if (failures[i] != null) {
+                errors.add(String.format(invalidRecordFormat, position, failures[i]));
+                continue;
+            }
+            Integer firstPosition = positionsByName.putIfAbsent(converted[i].getName(), position);
+            if (firstPosition != null) {
+                errors.add(String.format(duplicateRecordFormat, position,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, firstPosition));
+                continue;
+            }
+            String rejection = check.apply(converted[i]);
+            if (rejection != null) {
+                errors.add(String.format(invalidRecordFormat, position, rejection));
+                continue;
+            }
+            persons.add(converted[i]);
+            acceptedCount++;
+        }
+        if (errors.isEmpty() && acceptedCount > 0) {
+            pageConsumer.accept(Collections.unmodifiableList(
+                    new ArrayList<>(persons.subList(persons.size() - acceptedCount, persons.size()))));
+        }
+        batch.clear();
+    }
+
+    /**
+     * A record queued for conversion, or the reason it could not be read.
+     */
+    private static class Record {
+        private final JsonAdaptedPerson adaptedPerson;
+        private final int position;
+        private final String failure;
+
+        Record(JsonAdaptedPerson adaptedPerson, int position, String failure) {
+            this.adaptedPerson = adaptedPerson;
+            this.position = position;
+            this.failure = failure;
+        }
+    }
+
+}
@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +31,13 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    @Override
+    void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) throws IOException;
+
+    /**
+     * Blocks until every save requested so far has been written or has failed.
+     * @throws IOException if waiting for the pending saves failed.
+     */
+    void flush() throws IOException;
+
 }
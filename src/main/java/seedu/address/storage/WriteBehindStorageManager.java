@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that hands address book saves to a single background writer thread,
+ * so that callers never wait for the data file to be written.
+ *
+ * Saves requested while the writer is busy are coalesced: only the latest address book is written,
+ * together with every change made since the last successful write. Failed writes are reported to the
+ * failure handler on the writer thread, and their changes are retried with the next save.
+ * User prefs are still saved synchronously.
+ */
+public class WriteBehindStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorageManager.class);
+
+    private final Storage storage;
+    private final Consumer<IOException> saveFailureHandler;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Guarded by this. pendingAddressBook is null when there is nothing left to write.
+    private ReadOnlyAddressBook pendingAddressBook;
+    private List<AddressBookChange> pendingChanges = new ArrayList<>();
+    private boolean isWriteScheduled = false;
+
+    /**
+     * Creates a {@code WriteBehindStorageManager} that writes through {@code storage} in the background
+     * and passes any failure to write the address book to {@code saveFailureHandler}.
+     */
+    public WriteBehindStorageManager(Storage storage, Consumer<IOException> saveFailureHandler) {
+        requireAllNonNull(storage, saveFailureHandler);
+        this.storage = storage;
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(storage.getAddressBookFilePath());
+    }
+
+    /**
+     * Waits for pending saves before reading, so that the data read reflects every save requested so far.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        flushQuietly();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Schedules a full save of {@code addressBook}.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBookChanges(addressBook, Collections.singletonList(AddressBookChange.reset()));
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath} immediately, after any pending saves have been written.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Schedules {@code changes} to be written and returns without waiting for the write.
+     * A copy of the person and group lists of {@code addressBook} is taken before returning.
+     */
+    @Override
+    public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes) {
+        requireAllNonNull(addressBook, changes);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            pendingChanges.addAll(changes);
+            if (isWriteScheduled) {
+                return;
+            }
+            isWriteScheduled = true;
+        }
+        writer.execute(this::writePending);
+    }
+
+    /**
+     * Blocks until every save requested so far has been attempted.
+     *
+     * @throws IOException if the thread was interrupted while waiting.
+     */
+    @Override
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (pendingAddressBook != null && !isWriteScheduled) {
+                // changes of a failed write are still pending, give them one more attempt
+                isWriteScheduled = true;
+                writer.execute(this::writePending);
+            }
+        }
+
+        Future<?> marker = writer.submit(() -> { });
+        try {
+            marker.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for pending saves", e);
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task should not fail.", e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (IOException e) {
+            logger.warning("Reading without waiting for pending saves: " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the latest pending address book. Runs on the writer thread only.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        List<AddressBookChange> changes;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            changes = pendingChanges;
+            pendingAddressBook = null;
+            pendingChanges = new ArrayList<>();
+            isWriteScheduled = false;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBookChanges(addressBook, changes);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+            synchronized (this) {
+                // keep the changes so that the next write still covers them
+                changes.addAll(pendingChanges);
+                pendingChanges = changes;
+                if (pendingAddressBook == null) {
+                    pendingAddressBook = addressBook;
+                }
+            }
+            saveFailureHandler.accept(e);
+        }
+    }
+
+    /**
+     * An immutable copy of the lists of an address book, cheap enough to take on every save.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Group> groups;
+
+        AddressBookSnapshot(ReadOnlyAddressBook source) {
+            requireNonNull(source);
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getPersonList()));
+            groups = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(source.getGroupList()));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+
+        @Override
+        public ObservableList<Group> getGroupList() {
+            return groups;
+        }
+    }
+
+}
@@ -0,0 +1,63 @@
+package seedu.address.ui;
+
+import java.util.StringJoiner;
+
+import javafx.collections.ListChangeListener;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import seedu.address.logic.Logic;
+import seedu.address.model.group.AttendanceCount;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * Panel showing, for every group, the attendance of the latest week in which anyone was marked.
+ */
+public class AttendanceSummaryPanel extends UiPart<Region> {
+
+    public static final String MESSAGE_NO_GROUPS = "No groups yet";
+    public static final String MESSAGE_NOT_MARKED = "%1$s: no attendance marked yet";
+    public static final String MESSAGE_WEEK_SUMMARY = "%1$s week %2$d: %3$d present, %4$d absent, %5$d unmarked";
+
+    private static final String FXML = "AttendanceSummaryPanel.fxml";
+
+    private final Logic logic;
+
+    @FXML
+    private Label attendanceSummary;
+
+    /**
+     * Creates an {@code AttendanceSummaryPanel} that shows the attendance counts kept by {@code logic}, refreshed
+     * whenever a person or group changes.
+     */
+    public AttendanceSummaryPanel(Logic logic) {
+        super(FXML);
+        this.logic = logic;
+        refresh();
+
+        // Each refresh only reads the counts kept by the model, so it costs the same however many persons changed
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> refresh());
+        logic.getAddressBook().getGroupList().addListener((ListChangeListener<Group>) change -> refresh());
+    }
+
+    private void refresh() {
+        StringJoiner summary = new StringJoiner("\n");
+        for (Group group : logic.getAddressBook().getGroupList()) {
+            summary.add(summarize(group));
+        }
+        attendanceSummary.setText(summary.length() == 0 ? MESSAGE_NO_GROUPS : summary.toString());
+    }
+
+    private String summarize(Group group) {
+        for (int week = logic.getAttendanceWeekCount(group); week >= 1; week--) {
+            AttendanceCount count = logic.getAttendanceCount(group, week);
+            if (count.isMarked()) {
+                return String.format(MESSAGE_WEEK_SUMMARY, group.groupName, week, count.getPresentCount(),
+                        count.getAbsentCount(), count.getUnmarkedCount());
+            }
+        }
+        return String.format(MESSAGE_NOT_MARKED, group.groupName);
+    }
+
+}
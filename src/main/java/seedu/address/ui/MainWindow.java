@@ -32,7 +32,9 @@ public class MainWindow extends UiPart<Stage> {
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private AttendanceSummaryPanel attendanceSummaryPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private MailWindow mailWindow;
 
@@ -45,6 +47,9 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private StackPane personListPanelPlaceholder;
 
+    @FXML
+    private StackPane attendanceSummaryPlaceholder;
+
     @FXML
     private StackPane resultDisplayPlaceholder;
 
@@ -112,13 +117,17 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook().getGroupList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook().getGroupList(),
+                logic::getFilteredGroupMemberList);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
+        attendanceSummaryPanel = new AttendanceSummaryPanel(logic);
+        attendanceSummaryPlaceholder.getChildren().add(attendanceSummaryPanel.getRoot());
+
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
@@ -177,6 +186,14 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    void showFeedback(String feedbackToUser) {
+        resultDisplay.setFeedbackToUser(feedbackToUser);
+    }
+
+    void showStatus(String status) {
+        statusBarFooter.setStatus(status);
+    }
+
     public PersonListPanel getPersonListPanel() {
         return personListPanel;
     }
@@ -1,12 +1,16 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,7 +28,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+    private int displayedIndex;
 
     @FXML
     private HBox cardPane;
@@ -47,12 +52,32 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane groups;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in with {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Displays {@code person} with the given index on this card.
+     * The card's labels are reused, so a list cell can show a different person without loading the FXML again.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        if (person == this.person && displayedIndex == this.displayedIndex) {
+            // Persons and their groups are immutable, so the card already shows this person
+            return;
+        }
         this.person = person;
+        this.displayedIndex = displayedIndex;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -61,12 +86,32 @@ public class PersonCard extends UiPart<Region> {
         major.setText(person.getMajor().value);
         telegram.setText("@" + person.getTelegram().value);
         remark.setText(person.getRemark().value);
-        person.getGroups().stream()
+        setGroups(person.getGroups().stream()
                 .sorted(Comparator.comparing(group -> group.groupName))
-                .forEach(group -> {
-                    String attendanceString = String.join(", ", group.attendance);
-                    String groupWithAttendance = group.groupName + ": " + attendanceString;
-                    groups.getChildren().add(new Label(groupWithAttendance));
-                });
+                .collect(Collectors.toList()));
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows the attendance of each of {@code sortedGroups}, relabelling the existing group labels first.
+     */
+    private void setGroups(List<Group> sortedGroups) {
+        List<Node> groupLabels = groups.getChildren();
+        for (int i = 0; i < sortedGroups.size(); i++) {
+            Group group = sortedGroups.get(i);
+            String attendanceString = String.join(", ", group.getAttendanceList());
+            String groupWithAttendance = group.groupName + ": " + attendanceString;
+            if (i < groupLabels.size()) {
+                ((Label) groupLabels.get(i)).setText(groupWithAttendance);
+            } else {
+                groupLabels.add(new Label(groupWithAttendance));
+            }
+        }
+        if (groupLabels.size() > sortedGroups.size()) {
+            groupLabels.subList(sortedGroups.size(), groupLabels.size()).clear();
+        }
     }
 }
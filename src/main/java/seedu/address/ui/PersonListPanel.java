@@ -1,7 +1,11 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ListChangeListener;
@@ -30,30 +34,37 @@ public class PersonListPanel extends UiPart<Region> {
 
     private ObservableList<Person> personList;
     private ObservableList<Group> groupList; // Observable list of groups
-
+    private final Function<Group, ObservableList<Person>> groupMemberLists;
+    private final Map<Group, Tab> groupTabs = new HashMap<>();
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}s.
+     * {@code groupMemberLists} returns the persons of {@code personList} that are in a given group, maintained
+     * member by member instead of by testing every person.
      */
-    public PersonListPanel(ObservableList<Person> personList, ObservableList<Group> groupList) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableList<Group> groupList,
+            Function<Group, ObservableList<Person>> groupMemberLists) {
         super(FXML);
         this.personList = personList;
         this.groupList = groupList;
+        this.groupMemberLists = groupMemberLists;
         initializeTabs(); // Initialize tabs after FXML is loaded
 
-        // Add listener to groupList
+        // Add or remove only the tabs of the groups that changed
         groupList.addListener((ListChangeListener<Group>) change -> {
             while (change.next()) {
-                updateTabs(); // Update tabs whenever there is a change to groups
-                break; // Only update tabs once for each change
+                updateTabs(change);
             }
         });
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once and rebinds it to whichever person the cell shows next.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -62,7 +73,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -80,20 +95,16 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Creates a tab for each group and display all persons in that group.
-     * @param groups
+     * Creates a tab that displays all persons in {@code group}.
      */
-    private void createEachGroupTab(Set<Group> groups) {
-        for (Group group : groups) {
-            Tab tab = new Tab(group.groupName);
-            ListView<Person> groupListView = new ListView<>();
-            tab.setContent(groupListView);
-
-            // Filter persons based on the group and set them in the ListView
-            groupListView.setItems(personList.filtered(person -> person.getGroups().contains(group)));
-            groupListView.setCellFactory(listView -> new PersonListViewCell());
-            tabPane.getTabs().add(tab);
-        }
+    private Tab createGroupTab(Group group) {
+        Tab tab = new Tab(group.groupName);
+        ListView<Person> groupListView = new ListView<>();
+        tab.setContent(groupListView);
+
+        groupListView.setItems(groupMemberLists.apply(group));
+        groupListView.setCellFactory(listView -> new PersonListViewCell());
+        return tab;
     }
 
     /**
@@ -106,24 +117,45 @@ public class PersonListPanel extends UiPart<Region> {
 
         // Clear existing tabs
         tabPane.getTabs().clear();
+        groupTabs.clear();
 
         // Creates a tab for displaying all persons
         createAllTab();
 
-        // Get the set of all unique groups from the group list
-        Set<Group> groups = new HashSet<>(groupList);
-
-        createEachGroupTab(groups);
+        for (Group group : groupList) {
+            Tab tab = createGroupTab(group);
+            groupTabs.put(group, tab);
+            tabPane.getTabs().add(tab);
+        }
     }
 
     /**
-     * Updates the tabs and the person list in each tab
+     * Updates the tabs for a single {@code change} to the group list.
+     * Groups are identified by name, so a group that is replaced by one with the same name, such as after its link
+     * is edited, keeps its tab along with the scroll position and selection of its list.
      */
-    private void updateTabs() {
-        // Clear existing tabs
-        tabPane.getTabs().clear();
+    private void updateTabs(ListChangeListener.Change<? extends Group> change) {
+        if (change.wasPermutated() || change.wasUpdated()) {
+            return;
+        }
 
-        // Reinitialize tabs with updated group list
-        initializeTabs();
+        List<? extends Group> added = change.getAddedSubList();
+        Set<Group> addedGroups = new HashSet<>(added);
+        for (Group group : change.getRemoved()) {
+            if (!addedGroups.contains(group)) {
+                tabPane.getTabs().remove(groupTabs.remove(group));
+            }
+        }
+
+        // Tabs follow the order of the group list, after the tab of all persons
+        int tabIndex = Math.min(change.getFrom() + 1, tabPane.getTabs().size());
+        for (Group group : added) {
+            if (!groupTabs.containsKey(group)) {
+                Tab tab = createGroupTab(group);
+                groupTabs.put(group, tab);
+                tabPane.getTabs().add(tabIndex, tab);
+            }
+            tabIndex = Math.min(tabIndex + 1, tabPane.getTabs().size());
+        }
     }
 }
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /** Shows {@code feedbackToUser} in the result display. Can be called from any thread. */
+    void showFeedback(String feedbackToUser);
+
+    /** Shows {@code status} in the status bar. Can be called from any thread. */
+    void showStatus(String status);
+
 }
@@ -50,6 +50,24 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showFeedback(String feedbackToUser) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showFeedback(feedbackToUser);
+            }
+        });
+    }
+
+    @Override
+    public void showStatus(String status) {
+        Platform.runLater(() -> {
+            if (mainWindow != null) {
+                mainWindow.showStatus(status);
+            }
+        });
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,60 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram().getPercentile(-1));
+    }
+
+    @Test
+    public void getPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 4; i++) {
+            histogram.record(i);
+        }
+        assertEquals(2, histogram.getPercentile(50));
+        assertEquals(4, histogram.getPercentile(100));
+        assertEquals(4, histogram.getMax());
+        assertEquals(2, histogram.getMean());
+    }
+
+    @Test
+    public void getPercentile_largeValues_withinOneEighth() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 1000);
+        }
+        long median = histogram.getPercentile(50);
+        assertTrue(median >= 5_000_000 && median <= 5_000_000 * 9 / 8, "median was " + median);
+        long p99 = histogram.getPercentile(99);
+        assertTrue(p99 >= 9_900_000 && p99 <= 10_000_000, "p99 was " + p99);
+        assertEquals(10_000_000, histogram.getMax());
+    }
+
+    @Test
+    public void getBucketUpperBound_powersOfTwo_startNewBuckets() {
+        for (int shift = 0; shift < 63; shift++) {
+            long value = 1L << shift;
+            assertTrue(Histogram.getBucketUpperBound(Histogram.getBucketIndex(value)) >= value);
+            assertEquals(value - 1, Histogram.getBucketUpperBound(Histogram.getBucketIndex(value - 1)));
+        }
+        assertEquals(Long.MAX_VALUE, Histogram.getBucketUpperBound(Histogram.getBucketIndex(Long.MAX_VALUE)));
+    }
+
+}
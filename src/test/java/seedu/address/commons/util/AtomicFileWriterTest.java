@@ -0,0 +1,100 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+
+public class AtomicFileWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private static AtomicFileWriter.ContentWriter content(String text) {
+        return out -> out.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String read(Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    private long countFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void write_missingFileAndParent_createsFile() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.json");
+        new AtomicFileWriter(FsyncPolicy.ALWAYS).write(file, content("first"));
+        assertEquals("first", read(file));
+    }
+
+    @Test
+    public void write_existingFile_replacesContentWithoutLeftovers() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        for (FsyncPolicy policy : FsyncPolicy.values()) {
+            AtomicFileWriter writer = new AtomicFileWriter(policy);
+            writer.write(file, content("old " + policy));
+            writer.write(file, content("new " + policy));
+            assertEquals("new " + policy, read(file));
+        }
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void write_contentWriterFails_previousContentKept() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.BATCHED);
+        writer.write(file, content("intact"));
+
+        assertThrows(IOException.class, () -> writer.write(file, out -> {
+            out.write("trunc".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("crash in the middle of a save");
+        }));
+
+        assertEquals("intact", read(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void append_missingFile_createsFileAndAppends() throws Exception {
+        Path file = testFolder.resolve("nested").resolve("data.journal");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.ALWAYS);
+        writer.append(file, content("first\n"));
+        writer.append(file, content("second\n"));
+        assertEquals("first\nsecond\n", read(file));
+    }
+
+    @Test
+    public void append_contentWriterFails_partialAppendRemoved() throws Exception {
+        Path file = testFolder.resolve("data.journal");
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.NEVER);
+        writer.append(file, content("intact\n"));
+
+        assertThrows(IOException.class, () -> writer.append(file, out -> {
+            out.write("trunc".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            throw new IOException("crash in the middle of an append");
+        }));
+
+        writer.append(file, content("next\n"));
+        assertEquals("intact\nnext\n", read(file));
+    }
+
+    @Test
+    public void constructor_nullPolicy_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AtomicFileWriter(null));
+    }
+
+}
@@ -0,0 +1,77 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+import seedu.address.model.person.Year;
+
+public class ValidationUtilTest {
+
+    private static final String ALPHABET = "09aZ_ -\n\u00e9\u0661TUTLABREC";
+
+    /**
+     * Returns every string of up to 3 characters from {@link #ALPHABET}, plus some longer ones.
+     */
+    private static List<String> candidates() {
+        List<String> candidates = new ArrayList<>(Arrays.asList("", "TUT04", "LAB10", "REC99", "TUT4", "tut04",
+                "TUT004", "LAB1a", "XYZ01", "TUT04 ", "123456789", "Alex Yeoh", "alex_yeoh", "Alex  Yeoh "));
+        for (char a : ALPHABET.toCharArray()) {
+            candidates.add(String.valueOf(a));
+            for (char b : ALPHABET.toCharArray()) {
+                candidates.add("" + a + b);
+                for (char c : ALPHABET.toCharArray()) {
+                    candidates.add("" + a + b + c);
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private static void assertSameAsRegex(String regex, Predicate<String> validator) {
+        for (String candidate : candidates()) {
+            assertEquals(candidate.matches(regex), validator.test(candidate), regex + " on \"" + candidate + "\"");
+        }
+    }
+
+    @Test
+    public void validators_sameAsRegularExpressions() {
+        assertSameAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone);
+        assertSameAsRegex(Year.VALIDATION_REGEX, Year::isValidYear);
+        assertSameAsRegex(Telegram.VALIDATION_REGEX, Telegram::isValidTelegram);
+        assertSameAsRegex(Name.VALIDATION_REGEX, Name::isValidName);
+        assertSameAsRegex(Group.GROUP_NAME_VALIDATION_REGEX, Group::isValidGroupName);
+        assertSameAsRegex(Group.WEEK_VALIDATION_REGEX, Group::isValidWeek);
+        assertSameAsRegex(Group.ATTENDANCE_VALIDATION_REGEX, Group::isValidAttendance);
+    }
+
+    @Test
+    public void isPrefixedNumber() {
+        String[] prefixes = {"TUT", "LAB"};
+        assertTrue(ValidationUtil.isPrefixedNumber("LAB07", prefixes, 2));
+        assertTrue(ValidationUtil.isPrefixedNumber("TUT", prefixes, 0));
+        assertFalse(ValidationUtil.isPrefixedNumber("LAB7", prefixes, 2));
+        assertFalse(ValidationUtil.isPrefixedNumber("REC07", prefixes, 2));
+    }
+
+    @Test
+    public void isPositiveNumber() {
+        assertTrue(ValidationUtil.isPositiveNumber("1", 1));
+        assertTrue(ValidationUtil.isPositiveNumber("100", 3));
+        assertFalse(ValidationUtil.isPositiveNumber("100", 2));
+        assertFalse(ValidationUtil.isPositiveNumber("0", 2));
+        assertFalse(ValidationUtil.isPositiveNumber("", 2));
+    }
+
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -15,7 +17,10 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +28,11 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -73,6 +82,19 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotWriteDataFile() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_storageThrowsIoException_changesKeptForNextSave() {
+        assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
+                LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()));
+        assertFalse(model.getUnsavedChanges().isEmpty());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -85,6 +107,89 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_whileLoading_modifyingCommandQueuedUntilLoaded() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + YEAR_DESC_AMY
+                + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY + MAJOR_DESC_AMY + REMARK_DESC_SHY;
+        Person expectedPerson = new PersonBuilder(AMY).withGroups().build();
+        logic.beginLoading();
+        assertTrue(logic.isLoading());
+
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, addCommand),
+                logic.execute(addCommand).getFeedbackToUser());
+        assertFalse(model.hasPerson(expectedPerson));
+
+        assertEquals(Collections.singletonList(String.format(AddCommand.MESSAGE_SUCCESS,
+                Messages.format(expectedPerson))), logic.finishLoading());
+        assertFalse(logic.isLoading());
+        assertTrue(model.hasPerson(expectedPerson));
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_undoAfterAdd_removesAddedPerson() throws Exception {
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + YEAR_DESC_AMY
+                + TELEGRAM_DESC_AMY + EMAIL_DESC_AMY + MAJOR_DESC_AMY + REMARK_DESC_SHY;
+        Person expectedPerson = new PersonBuilder(AMY).withGroups().build();
+        logic.execute(addCommand);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertCommandSuccess(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_SUCCESS, new ModelManager());
+        assertFalse(model.hasPerson(expectedPerson));
+        assertCommandSuccess(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_SUCCESS, model);
+        assertTrue(model.hasPerson(expectedPerson));
+    }
+
+    @Test
+    public void execute_statsAfterList_showsListTimings() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute("  " + ListCommand.COMMAND_WORD + " ");
+
+        String feedback = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(feedback.startsWith(CommandMetrics.MESSAGE_HEADER));
+        assertTrue(feedback.contains("\n" + ListCommand.COMMAND_WORD + " (2): parse "));
+    }
+
+    @Test
+    public void execute_statsWithMetricsDisabled_showsDisabledMessage() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setCommandMetricsEnabled(false);
+        model = new ModelManager(model.getAddressBook(), userPrefs);
+        setUp();
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertCommandSuccess(StatsCommand.COMMAND_WORD, CommandMetrics.MESSAGE_DISABLED, model);
+    }
+
+    @Test
+    public void finishLoading_queuedCommandFails_errorMessageReturned() throws Exception {
+        logic.beginLoading();
+        logic.execute("delete 9");
+        assertEquals(Collections.singletonList(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), logic.finishLoading());
+    }
+
+    @Test
+    public void execute_readOnlyCommandAfterQueuedCommand_queuedInOrder() throws Exception {
+        logic.beginLoading();
+        logic.execute("delete 9");
+        assertEquals(String.format(LogicManager.MESSAGE_COMMAND_QUEUED, ListCommand.COMMAND_WORD),
+                logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(Arrays.asList(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, ListCommand.MESSAGE_SUCCESS),
+                logic.finishLoading());
+    }
+
+    @Test
+    public void execute_exitWhileCommandsQueued_throwsCommandException() throws Exception {
+        logic.beginLoading();
+        assertTrue(logic.execute(ExitCommand.COMMAND_WORD).isExit());
+
+        logic.execute("delete 9");
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_EXIT_WHILE_QUEUED, 1), () ->
+                logic.execute(ExitCommand.COMMAND_WORD));
+        assertEquals(Collections.singletonList(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), logic.finishLoading());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
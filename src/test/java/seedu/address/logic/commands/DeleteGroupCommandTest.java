@@ -5,22 +5,32 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalGroups.LAB10;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.AttendanceCount;
 import seedu.address.model.group.Group;
 import seedu.address.model.person.Person;
 
@@ -55,6 +65,28 @@ public class DeleteGroupCommandTest {
                 DeleteGroupCommand.MESSAGE_NOT_FOUND, () -> deleteGroupCommand.execute(modelStub));
     }
 
+    @Test
+    public void execute_groupWithMembers_membersUpdatedInOneChange() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Person> members = model.getPersonsInGroups(Collections.singletonList(LAB10));
+        assertFalse(members.isEmpty());
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        new DeleteGroupCommand(LAB10).execute(model);
+
+        assertEquals(1, changeCount[0]);
+        assertFalse(model.hasGroup(LAB10));
+        assertEquals(Collections.emptyList(), model.getPersonsInGroups(Collections.singletonList(LAB10)));
+        assertEquals(AttendanceCount.NONE, model.getAttendanceCount(LAB10, 1));
+        for (Person member : members) {
+            Person editedMember = model.getAddressBook().getPersonList().stream()
+                    .filter(member::isSamePerson).findFirst().get();
+            assertFalse(editedMember.getGroups().contains(LAB10));
+            assertEquals(member.getGroups().size() - 1, editedMember.getGroups().size());
+        }
+    }
+
     @Test
     public void equals() {
         Group tut01 = new Group("TUT01");
@@ -179,6 +211,90 @@ public class DeleteGroupCommandTest {
         public void updateFilteredPersonList(Predicate<Person> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceCount getAttendanceCount(Group group, int week) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getAttendanceWeekCount(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public Optional<Group> findGroup(String groupName) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearAddressBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setPersons(Map<Person, Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void appendSavedData(List<Person> persons, List<Group> groups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getPersonsInGroups(Collection<Group> groups) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> findPersonsByNameWords(Collection<String> lowerCasePrefixes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredGroupMemberList(Group group) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AddressBookChange> getUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markChangesSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -227,6 +343,16 @@ public class DeleteGroupCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             return new AddressBook();
         }
+
+        @Override
+        public List<Person> getPersonsInGroups(Collection<Group> groups) {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public void setPersons(Map<Person, Person> editedPersons) {
+            requireNonNull(editedPersons);
+        }
     }
 
 }
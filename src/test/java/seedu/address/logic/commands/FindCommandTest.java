@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +76,17 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_matchEditedLater_staysListedUntilRenamed() {
+        new FindCommand(preparePredicate("Kurz")).execute(model);
+        Person markedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        model.setPerson(CARL, markedCarl);
+        assertEquals(Collections.singletonList(markedCarl), model.getFilteredPersonList());
+
+        model.setPerson(markedCarl, new PersonBuilder(markedCarl).withName("Carl Meier").build());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
@@ -0,0 +1,128 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvPersonReader;
+import seedu.address.testutil.PersonBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = String.join(",", CsvPersonReader.COLUMNS);
+    private static final String AMY_ROW = "Amy Bee,85355255,amy@gmail.com,1,Computer Science,amy123,shy,TUT04";
+    private static final String BOB_ROW = "Bob Choo,22222222,bob@example.com,2,Mathematics,bobchoo,,LAB10 TUT04";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_addsEveryStudent() throws Exception {
+        Path filePath = writeCsv(HEADER, AMY_ROW, BOB_ROW);
+        List<Person> imported = Arrays.asList(
+                new PersonBuilder().withGroups("TUT04").build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                        .withYear("2").withMajor("Mathematics").withTelegram("bobchoo").withRemark("")
+                        .withGroups("LAB10", "TUT04").build());
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        expectedModel.addPersons(imported);
+
+        assertCommandSuccess(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_SUCCESS, 2, filePath), expectedModel);
+    }
+
+    @Test
+    public void execute_undoAfterImport_removesEveryStudent() throws Exception {
+        List<Person> persons = List.copyOf(model.getAddressBook().getPersonList());
+        new ImportCommand(writeCsv(HEADER, AMY_ROW, BOB_ROW)).execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+
+        assertEquals(persons, model.getAddressBook().getPersonList());
+        assertFalse(model.hasPerson(new PersonBuilder().build()));
+        assertTrue(model.getPersonsInGroups(List.of(new Group("TUT04"))).stream()
+                .noneMatch(person -> person.getName().fullName.equals("Bob Choo")));
+    }
+
+    @Test
+    public void execute_invalidRows_addsNothingAndReportsEveryRow() throws Exception {
+        String aliceRow = ALICE.getName() + ",94351253,alice@example.com,1,Computer Science,alice,,";
+        Path filePath = writeCsv(HEADER, AMY_ROW, aliceRow, "Dan Lee,95352563,dan@example.com,1,Physics,danlee,,REC01");
+
+        String expectedErrors = String.join("\n",
+                "Line 3: " + AddCommand.MESSAGE_DUPLICATE_PERSON,
+                "Line 4: " + String.format(Group.MESSAGE_GROUP_NOT_IN_ADDRESS_BOOK, new Group("REC01")));
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_INVALID_FILE, filePath, expectedErrors));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath));
+    }
+
+    @Test
+    public void execute_headerOnly_throwsCommandException() throws Exception {
+        Path filePath = writeCsv(HEADER);
+        assertCommandFailure(new ImportCommand(filePath), model,
+                String.format(ImportCommand.MESSAGE_NO_STUDENTS, filePath));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("students.csv"));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("students.csv"))));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("others.csv"))));
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
 
+import java.net.URLEncoder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -75,4 +76,16 @@ public class MailTelegramCommandTest {
 
         assertEquals(MailTelegramCommand.SHOW_MAILTO_LINK, commandResult.getFeedbackToUser());
     }
+
+    @Test
+    public void execute_groupWithTelegramLink_linkInMailtoBody() throws Exception {
+        Model model = new ModelManager();
+        model.addGroup(new Group("TUT01"));
+        model.addGroup(new Group("TUT02", "https://t.me/tut02group"));
+
+        CommandResult commandResult = new MailTelegramCommand(new Group("TUT02")).execute(model);
+
+        String encodedLink = URLEncoder.encode("https://t.me/tut02group", "UTF-8");
+        assertTrue(commandResult.getMailtoLink().contains(encodedLink));
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -34,12 +35,29 @@ public class MarkAttendanceCommandTest {
     public void execute_attendanceIsMarked_markSuccessful() throws Exception {
         Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
         Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
-        firstPerson.getMatchingGroup(new Group("TUT04")).markAttendance(1, "A");
+        Group markedGroup = firstPerson.getMatchingGroup(new Group("TUT04")).withAttendance(1, "A");
+        expectedModel.setPerson(firstPerson, firstPerson.withGroup(markedGroup));
 
         MarkAttendanceCommand markCommand = new MarkAttendanceCommand(INDEX_FIRST_PERSON,
                 new Group("TUT04"), 1, "A");
 
         assertCommandSuccess(markCommand, model, MarkAttendanceCommand.MESSAGE_SUCCESS, expectedModel);
+        Person markedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertEquals("A", markedPerson.getMatchingGroup(new Group("TUT04")).getAttendance(1));
+        assertEquals("_", firstPerson.getMatchingGroup(new Group("TUT04")).getAttendance(1));
+    }
+
+    @Test
+    public void execute_undoAfterMark_restoresAttendance() throws Exception {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        new MarkAttendanceCommand(INDEX_FIRST_PERSON, new Group("TUT04"), 1, "P").execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+
+        Person restoredPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertSame(firstPerson, restoredPerson);
+        assertEquals("_", restoredPerson.getMatchingGroup(new Group("TUT04")).getAttendance(1));
     }
 
     @Test
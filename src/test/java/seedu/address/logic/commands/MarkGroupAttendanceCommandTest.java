@@ -0,0 +1,156 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+public class MarkGroupAttendanceCommandTest {
+
+    private static final Group TUT04 = new Group("TUT04");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new MarkGroupAttendanceCommand(null, 1, "P",
+                Collections.emptyList(), Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> new MarkGroupAttendanceCommand(TUT04, 1, null,
+                Collections.emptyList(), Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> new MarkGroupAttendanceCommand(TUT04, 1, "P",
+                null, Collections.emptyList()));
+    }
+
+    @Test
+    public void execute_allPresentExceptSome_marksWholeGroup() {
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+        Person thirdPerson = model.getFilteredPersonList().get(2);
+        MarkGroupAttendanceCommand command = new MarkGroupAttendanceCommand(TUT04, 2, "P",
+                List.of(INDEX_SECOND_PERSON), List.of(thirdPerson.getName()));
+
+        Model expectedModel = new ModelManager(new AddressBook(model.getAddressBook()), new UserPrefs());
+        Map<Person, Person> markedPersons = new HashMap<>();
+        for (Person person : model.getFilteredPersonList()) {
+            String attendance = person.equals(secondPerson) || person.equals(thirdPerson) ? "A" : "P";
+            markedPersons.put(person, person.withGroup(person.getMatchingGroup(TUT04).withAttendance(2, attendance)));
+        }
+        expectedModel.setPersons(markedPersons);
+
+        String expectedMessage = String.format(MarkGroupAttendanceCommand.MESSAGE_SUCCESS, "TUT04", 2,
+                markedPersons.size() - 2, 2);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals("A", model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased())
+                .getMatchingGroup(TUT04).getAttendance(2));
+        assertEquals("P", model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())
+                .getMatchingGroup(TUT04).getAttendance(2));
+    }
+
+    @Test
+    public void execute_undoAfterMarkAll_restoresWholeGroup() throws Exception {
+        List<Person> persons = List.copyOf(model.getFilteredPersonList());
+        new MarkGroupAttendanceCommand(TUT04, 1, "A", List.of(), List.of()).execute(model);
+        model.commitAddressBook();
+
+        model.undoAddressBook();
+
+        assertEquals(persons, model.getFilteredPersonList());
+        for (Person person : model.getFilteredPersonList()) {
+            assertEquals("_", person.getMatchingGroup(TUT04).getAttendance(1));
+        }
+    }
+
+    @Test
+    public void execute_groupWithoutMembers_throwsCommandException() {
+        MarkGroupAttendanceCommand command = new MarkGroupAttendanceCommand(new Group("REC01"), 1, "P",
+                List.of(), List.of());
+        assertCommandFailure(command, model, String.format(MarkGroupAttendanceCommand.MESSAGE_NO_MEMBERS, "REC01"));
+    }
+
+    @Test
+    public void execute_exceptionNotInGroup_throwsCommandException() {
+        Person thirdPerson = model.getFilteredPersonList().get(2);
+        Group lab10 = new Group("LAB10");
+        assertFalse(thirdPerson.hasGroup(lab10));
+
+        MarkGroupAttendanceCommand byName = new MarkGroupAttendanceCommand(lab10, 1, "P", List.of(),
+                List.of(thirdPerson.getName()));
+        assertCommandFailure(byName, model, String.format(MarkGroupAttendanceCommand.MESSAGE_NOT_A_MEMBER,
+                thirdPerson.getName(), "LAB10"));
+
+        MarkGroupAttendanceCommand byIndex = new MarkGroupAttendanceCommand(lab10, 1, "P",
+                List.of(Index.fromZeroBased(2)), List.of());
+        assertCommandFailure(byIndex, model, String.format(MarkGroupAttendanceCommand.MESSAGE_NOT_A_MEMBER,
+                thirdPerson.getName(), "LAB10"));
+
+        MarkGroupAttendanceCommand unknownName = new MarkGroupAttendanceCommand(TUT04, 1, "P", List.of(),
+                List.of(new Name("Nobody Here")));
+        assertCommandFailure(unknownName, model, String.format(MarkGroupAttendanceCommand.MESSAGE_NOT_A_MEMBER,
+                "Nobody Here", "TUT04"));
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        MarkGroupAttendanceCommand command = new MarkGroupAttendanceCommand(TUT04, 1, "P",
+                List.of(outOfBoundIndex), List.of());
+        assertCommandFailure(command, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_weekNotTracked_throwsCommandException() {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        int week = firstPerson.getMatchingGroup(TUT04).getWeekCount() + 1;
+        MarkGroupAttendanceCommand command = new MarkGroupAttendanceCommand(TUT04, week, "P", List.of(), List.of());
+        assertCommandFailure(command, model, String.format(MarkGroupAttendanceCommand.MESSAGE_WEEK_NUMBER_INVALID,
+                week, firstPerson.getName(), "TUT04"));
+    }
+
+    @Test
+    public void equals() {
+        MarkGroupAttendanceCommand markAll = new MarkGroupAttendanceCommand(TUT04, 1, "P",
+                List.of(INDEX_FIRST_PERSON), List.of(new Name("Alice Pauline")));
+
+        // same object -> returns true
+        assertTrue(markAll.equals(markAll));
+
+        // same values -> returns true
+        assertTrue(markAll.equals(new MarkGroupAttendanceCommand(new Group("TUT04"), 1, "P",
+                List.of(INDEX_FIRST_PERSON), List.of(new Name("Alice Pauline")))));
+
+        // different types -> returns false
+        assertFalse(markAll.equals(1));
+
+        // null -> returns false
+        assertFalse(markAll.equals(null));
+
+        // different attendance -> returns false
+        assertFalse(markAll.equals(new MarkGroupAttendanceCommand(TUT04, 1, "A",
+                List.of(INDEX_FIRST_PERSON), List.of(new Name("Alice Pauline")))));
+
+        // different exceptions -> returns false
+        assertFalse(markAll.equals(new MarkGroupAttendanceCommand(TUT04, 1, "P", List.of(), List.of())));
+    }
+
+}
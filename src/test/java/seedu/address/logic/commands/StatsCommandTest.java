@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+
+public class StatsCommandTest {
+
+    private static final Group TUT04 = new Group("TUT04");
+
+    private final CommandMetrics commandMetrics = new CommandMetrics(true);
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noGroup_showsCommandTimings() {
+        assertCommandSuccess(new StatsCommand(commandMetrics), model, CommandMetrics.MESSAGE_NO_COMMANDS,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_groupAndWeek_showsAttendanceOfWeek() throws Exception {
+        int memberCount = model.getPersonsInGroups(List.of(TUT04)).size();
+        new MarkGroupAttendanceCommand(TUT04, 2, "P", List.of(INDEX_FIRST_PERSON), List.of()).execute(model);
+        new MarkGroupAttendanceCommand(TUT04, 2, "P", List.of(INDEX_FIRST_PERSON), List.of()).execute(expectedModel);
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_ATTENDANCE_HEADER, "TUT04") + "\n"
+                + String.format(StatsCommand.MESSAGE_WEEK_FORMAT, 2, memberCount - 1, 1, 0);
+        assertCommandSuccess(new StatsCommand(commandMetrics, TUT04, Optional.of(2)), model, expectedMessage,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_groupOnly_showsEveryTrackedWeek() {
+        int memberCount = model.getPersonsInGroups(List.of(TUT04)).size();
+        StringBuilder expectedMessage = new StringBuilder(String.format(StatsCommand.MESSAGE_ATTENDANCE_HEADER,
+                "TUT04"));
+        for (int week = 1; week <= Group.DEFAULT_WEEK_COUNT; week++) {
+            expectedMessage.append('\n').append(String.format(StatsCommand.MESSAGE_WEEK_FORMAT, week, 0, 0,
+                    memberCount));
+        }
+        assertCommandSuccess(new StatsCommand(commandMetrics, TUT04, Optional.empty()), model,
+                expectedMessage.toString(), expectedModel);
+    }
+
+    @Test
+    public void execute_groupWithoutMembers_throwsCommandException() {
+        assertCommandFailure(new StatsCommand(commandMetrics, new Group("REC01"), Optional.empty()), model,
+                String.format(StatsCommand.MESSAGE_NO_MEMBERS, "REC01"));
+    }
+
+    @Test
+    public void execute_weekNotTracked_throwsCommandException() {
+        int week = Group.DEFAULT_WEEK_COUNT + 1;
+        assertCommandFailure(new StatsCommand(commandMetrics, TUT04, Optional.of(week)), model,
+                String.format(StatsCommand.MESSAGE_WEEK_NOT_TRACKED, week, "TUT04"));
+    }
+
+    @Test
+    public void equals() {
+        StatsCommand timings = new StatsCommand(commandMetrics);
+        StatsCommand attendance = new StatsCommand(commandMetrics, TUT04, Optional.of(2));
+
+        // same values -> returns true
+        assertTrue(timings.equals(new StatsCommand(commandMetrics)));
+        assertTrue(attendance.equals(new StatsCommand(commandMetrics, new Group("TUT04"), Optional.of(2))));
+
+        // different metrics -> returns false
+        assertFalse(timings.equals(new StatsCommand(new CommandMetrics(true))));
+
+        // different group or week -> returns false
+        assertFalse(timings.equals(attendance));
+        assertFalse(attendance.equals(new StatsCommand(commandMetrics, TUT04, Optional.empty())));
+
+        // null -> returns false
+        assertFalse(timings.equals(null));
+    }
+
+}
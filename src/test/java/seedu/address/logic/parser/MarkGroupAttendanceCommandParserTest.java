@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.MarkGroupAttendanceCommand;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+
+public class MarkGroupAttendanceCommandParserTest {
+    private MarkGroupAttendanceCommandParser parser = new MarkGroupAttendanceCommandParser();
+
+    @Test
+    public void parse_noExceptions_returnsMarkGroupAttendanceCommand() {
+        assertParseSuccess(parser, " g/TUT04 w/3 a/P",
+                new MarkGroupAttendanceCommand(new Group("TUT04"), 3, "P", List.of(), List.of()));
+    }
+
+    @Test
+    public void parse_indexAndNameExceptions_returnsMarkGroupAttendanceCommand() {
+        assertParseSuccess(parser, " g/TUT04 w/3 a/A x/1 x/Alex Yeoh x/ 3 ",
+                new MarkGroupAttendanceCommand(new Group("TUT04"), 3, "A",
+                        List.of(INDEX_FIRST_PERSON, INDEX_THIRD_PERSON), List.of(new Name("Alex Yeoh"))));
+    }
+
+    @Test
+    public void parse_missingOrExtraArguments_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                MarkGroupAttendanceCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " w/3 a/P", expectedMessage);
+        assertParseFailure(parser, " g/TUT04 a/P", expectedMessage);
+        assertParseFailure(parser, " g/TUT04 w/3", expectedMessage);
+        assertParseFailure(parser, " 1 g/TUT04 w/3 a/P", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidValues_throwsParseException() {
+        assertParseFailure(parser, " g/TUT4 w/3 a/P", Group.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/TUT04 w/3 a/_", Group.ATTENDANCE_MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/TUT04 w/3 a/P x/0", ParserUtil.MESSAGE_INVALID_INDEX);
+        assertParseFailure(parser, " g/TUT04 w/3 a/P x/Alex*", Name.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/TUT04 w/3 w/4 a/P",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_WEEK));
+    }
+
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.CommandMetrics;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.group.Group;
+
+public class StatsCommandParserTest {
+    private final CommandMetrics commandMetrics = new CommandMetrics(false);
+    private StatsCommandParser parser = new StatsCommandParser(commandMetrics);
+
+    @Test
+    public void parse_noGroup_returnsTimingsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand(commandMetrics));
+        assertParseSuccess(parser, " 3", new StatsCommand(commandMetrics));
+    }
+
+    @Test
+    public void parse_group_returnsAttendanceCommand() {
+        assertParseSuccess(parser, " g/TUT04",
+                new StatsCommand(commandMetrics, new Group("TUT04"), Optional.empty()));
+        assertParseSuccess(parser, " g/TUT04 w/5",
+                new StatsCommand(commandMetrics, new Group("TUT04"), Optional.of(5)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " w/5", expectedMessage);
+        assertParseFailure(parser, " 1 g/TUT04", expectedMessage);
+        assertParseFailure(parser, " g/TUT04 w/0", Group.WEEK_MESSAGE_CONSTRAINTS);
+    }
+
+}
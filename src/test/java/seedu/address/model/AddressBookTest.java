@@ -14,12 +14,18 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.group.AttendanceCount;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
@@ -60,6 +66,251 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_manyPersons_replacesAllPersons() {
+        List<Person> newPersons = new ArrayList<>();
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < 300; i++) {
+            newPersons.add(personBuilder.withName("Student " + i).build());
+        }
+        AddressBookStub newData = new AddressBookStub(newPersons, Collections.emptyList());
+
+        addressBook.resetData(newData);
+        assertEquals(newPersons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void resetData_manyPersonsWithDuplicates_reportsEveryDuplicate() {
+        List<Person> newPersons = new ArrayList<>();
+        PersonBuilder personBuilder = new PersonBuilder();
+        for (int i = 0; i < 300; i++) {
+            newPersons.add(personBuilder.withName("Student " + i).build());
+        }
+        Person firstDuplicate = personBuilder.withName("Student 7").build();
+        Person secondDuplicate = personBuilder.withName("Student 250").withMajor(VALID_MAJOR_BOB).build();
+        newPersons.add(firstDuplicate);
+        newPersons.add(secondDuplicate);
+        AddressBookStub newData = new AddressBookStub(newPersons, Collections.emptyList());
+
+        DuplicatePersonException thrown = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                addressBook.resetData(newData));
+        assertEquals(Arrays.asList(firstDuplicate, secondDuplicate), thrown.getDuplicates());
+        assertEquals(Collections.emptyList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void copyConstructor_typicalAddressBook_hasNoUnsavedChanges() {
+        AddressBook copy = new AddressBook(getTypicalAddressBook());
+        assertFalse(copy.hasUnsavedChanges());
+    }
+
+    @Test
+    public void mutations_recordedInOrder_untilMarkedSaved() {
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        Group group = new Group(VALID_GROUP_TUTORIAL);
+        addressBook.addPerson(ALICE);
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addGroup(group);
+        addressBook.removePerson(editedAlice);
+
+        List<AddressBookChange> expectedChanges = Arrays.asList(AddressBookChange.addPerson(ALICE),
+                AddressBookChange.setPerson(ALICE, editedAlice), AddressBookChange.addGroup(group),
+                AddressBookChange.removePerson(editedAlice));
+        assertTrue(addressBook.hasUnsavedChanges());
+        assertEquals(expectedChanges, addressBook.getUnsavedChanges());
+
+        addressBook.markChangesSaved();
+        assertFalse(addressBook.hasUnsavedChanges());
+        assertEquals(Collections.emptyList(), addressBook.getUnsavedChanges());
+    }
+
+    @Test
+    public void appendSavedData_pagesOfTypicalAddressBook_sameAsTypicalAddressBook() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        List<Person> persons = typicalAddressBook.getPersonList();
+        addressBook.appendSavedData(persons.subList(0, 3), Collections.emptyList());
+        addressBook.appendSavedData(persons.subList(3, persons.size()), Collections.emptyList());
+        addressBook.appendSavedData(Collections.emptyList(), typicalAddressBook.getGroupList());
+
+        assertEquals(typicalAddressBook, addressBook);
+        assertFalse(addressBook.hasUnsavedChanges());
+    }
+
+    @Test
+    public void appendSavedData_duplicatePerson_throwsDuplicatePersonException() {
+        addressBook.appendSavedData(Collections.singletonList(ALICE), Collections.emptyList());
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.appendSavedData(Collections.singletonList(ALICE), Collections.emptyList()));
+    }
+
+    @Test
+    public void insertPerson_beforeEnd_recordedAsReset() {
+        Person benson = new PersonBuilder().withName("Benson Meier").build();
+        addressBook.addPerson(benson);
+        addressBook.markChangesSaved();
+
+        addressBook.insertPerson(0, ALICE);
+        assertEquals(Arrays.asList(ALICE, benson), addressBook.getPersonList());
+        assertEquals(Collections.singletonList(AddressBookChange.reset()), addressBook.getUnsavedChanges());
+    }
+
+    @Test
+    public void resetData_recordsSingleReset() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singletonList(AddressBookChange.reset()), addressBook.getUnsavedChanges());
+    }
+
+    @Test
+    public void getGroupMemberList_afterEachMutation_followsMembers() {
+        Group tutorial = new Group(VALID_GROUP_TUTORIAL);
+        List<Person> members = addressBook.getGroupMemberList(tutorial);
+        Person first = new PersonBuilder().withName("First").withGroups(VALID_GROUP_TUTORIAL).build();
+        addressBook.addPerson(first);
+        assertEquals(Collections.singletonList(first), members);
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(Collections.emptyList(), members);
+
+        addressBook.addPerson(first);
+        addressBook.removePerson(first);
+        assertEquals(Collections.emptyList(), members);
+        assertThrows(UnsupportedOperationException.class, () -> members.add(first));
+    }
+
+    @Test
+    public void getPersonsInGroups_afterEachMutation_followsJoinOrder() {
+        Group tutorial = new Group(VALID_GROUP_TUTORIAL);
+        Group lab = new Group(VALID_GROUP_LAB);
+        Person first = new PersonBuilder().withName("First").withGroups(VALID_GROUP_TUTORIAL).build();
+        Person second = new PersonBuilder().withName("Second").withGroups(VALID_GROUP_LAB).build();
+        Person third = new PersonBuilder().withName("Third").withGroups(VALID_GROUP_TUTORIAL, VALID_GROUP_LAB).build();
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        addressBook.addPerson(third);
+        assertEquals(Arrays.asList(first, third), addressBook.getPersonsInGroups(Collections.singleton(tutorial)));
+        assertEquals(Arrays.asList(second, third, first), addressBook.getPersonsInGroups(Arrays.asList(lab, tutorial)));
+
+        // joining a group adds the person last, editing a member keeps its place
+        Person editedSecond = new PersonBuilder(second).withGroups(VALID_GROUP_TUTORIAL).build();
+        addressBook.setPerson(second, editedSecond);
+        Person editedFirst = new PersonBuilder(first).withPhone("99999999").build();
+        addressBook.setPerson(first, editedFirst);
+        assertEquals(Arrays.asList(editedFirst, third, editedSecond),
+                addressBook.getPersonsInGroups(Collections.singleton(tutorial)));
+        assertEquals(Collections.singletonList(third), addressBook.getPersonsInGroups(Collections.singleton(lab)));
+
+        List<Person> tutorialMembers = addressBook.getPersonsInGroups(Collections.singleton(tutorial));
+        addressBook.removePerson(third);
+        assertEquals(Collections.emptyList(), addressBook.getPersonsInGroups(Collections.singleton(lab)));
+        assertEquals(Arrays.asList(editedFirst, editedSecond),
+                addressBook.getPersonsInGroups(Collections.singleton(tutorial)));
+        // lists returned earlier are not affected
+        assertEquals(Arrays.asList(editedFirst, third, editedSecond), tutorialMembers);
+
+        addressBook.setPersons(Arrays.asList(third, first));
+        assertEquals(Arrays.asList(third, first), addressBook.getPersonsInGroups(Collections.singleton(tutorial)));
+    }
+
+    @Test
+    public void getAttendanceCount_afterEachMutation_countsEveryMember() {
+        Group tutorial = new Group(VALID_GROUP_TUTORIAL);
+        Person first = markTutorial(new PersonBuilder().withName("First").withGroups(VALID_GROUP_TUTORIAL).build(),
+                "P");
+        Person second = markTutorial(new PersonBuilder().withName("Second")
+                .withGroups(VALID_GROUP_TUTORIAL, VALID_GROUP_LAB).build(), "A");
+        Person third = new PersonBuilder().withName("Third").withGroups(VALID_GROUP_TUTORIAL).build();
+        addressBook.addPerson(first);
+        addressBook.addPerson(second);
+        addressBook.addPerson(third);
+        assertEquals(new AttendanceCount(1, 1, 1), addressBook.getAttendanceCount(tutorial, 2));
+        assertEquals(new AttendanceCount(0, 0, 3), addressBook.getAttendanceCount(tutorial, 1));
+        assertEquals(new AttendanceCount(0, 0, 1), addressBook.getAttendanceCount(new Group(VALID_GROUP_LAB), 2));
+        assertEquals(Group.DEFAULT_WEEK_COUNT, addressBook.getAttendanceWeekCount(tutorial));
+
+        Person markedThird = markTutorial(third, "P");
+        addressBook.setPerson(third, markedThird);
+        assertEquals(new AttendanceCount(2, 1, 0), addressBook.getAttendanceCount(tutorial, 2));
+
+        Map<Person, Person> editedPersons = new HashMap<>();
+        editedPersons.put(first, markTutorial(first, "A"));
+        editedPersons.put(second, new PersonBuilder(second).withGroups(VALID_GROUP_LAB).build());
+        addressBook.setPersons(editedPersons);
+        assertEquals(new AttendanceCount(1, 1, 0), addressBook.getAttendanceCount(tutorial, 2));
+        assertEquals(new AttendanceCount(0, 0, 2), addressBook.getAttendanceCount(tutorial, 3));
+
+        addressBook.removePerson(markedThird);
+        assertEquals(new AttendanceCount(0, 1, 0), addressBook.getAttendanceCount(tutorial, 2));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(AttendanceCount.NONE, addressBook.getAttendanceCount(tutorial, 2));
+        assertEquals(0, addressBook.getAttendanceWeekCount(tutorial));
+    }
+
+    private static Person markTutorial(Person person, String attendance) {
+        return person.withGroup(person.getMatchingGroup(new Group(VALID_GROUP_TUTORIAL)).withAttendance(2, attendance));
+    }
+
+    @Test
+    public void getAttendanceCount_insidePersonListListener_alreadyUpdated() {
+        Group tutorial = new Group(VALID_GROUP_TUTORIAL);
+        Person student = new PersonBuilder().withName("Student").withGroups(VALID_GROUP_TUTORIAL).build();
+        Person markedStudent = markTutorial(student, "P");
+        List<AttendanceCount> countsSeenByListener = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                countsSeenByListener.add(addressBook.getAttendanceCount(tutorial, 2)));
+
+        addressBook.addPerson(student);
+        addressBook.setPerson(student, markedStudent);
+        addressBook.setPersons(Collections.singletonMap(markedStudent, student));
+        addressBook.removePerson(student);
+
+        assertEquals(Arrays.asList(new AttendanceCount(0, 0, 1), new AttendanceCount(1, 0, 0),
+                new AttendanceCount(0, 0, 1), AttendanceCount.NONE), countsSeenByListener);
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_indexesUnchanged() {
+        Group tutorial = new Group(VALID_GROUP_TUTORIAL);
+        Person student = new PersonBuilder().withName("Student").withGroups(VALID_GROUP_TUTORIAL).build();
+        addressBook.addPerson(student);
+
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(markTutorial(student, "P")));
+        assertEquals(new AttendanceCount(0, 0, 1), addressBook.getAttendanceCount(tutorial, 2));
+        assertEquals(Collections.singletonList(student), addressBook.getPersonsInGroups(Arrays.asList(tutorial)));
+    }
+
+    @Test
+    public void findPersonsByNameWords_afterEachMutation_matchesWordPrefixes() {
+        Person alice = new PersonBuilder().withName("Alice Pauline").build();
+        Person paul = new PersonBuilder().withName("Paul Alicia").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(paul);
+        assertEquals(2, addressBook.findPersonsByNameWords(Arrays.asList("ali", "paul")).size());
+        assertEquals(Collections.emptyList(), addressBook.findPersonsByNameWords(Collections.singletonList("line")));
+
+        Person renamedPaul = new PersonBuilder(paul).withName("Carl Meier").build();
+        addressBook.setPerson(paul, renamedPaul);
+        Person editedAlice = new PersonBuilder(alice).withPhone("99999999").build();
+        addressBook.setPerson(alice, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice),
+                addressBook.findPersonsByNameWords(Collections.singletonList("alic")));
+        assertEquals(Collections.singletonList(renamedPaul),
+                addressBook.findPersonsByNameWords(Collections.singletonList("carl")));
+
+        addressBook.removePerson(editedAlice);
+        assertEquals(Collections.emptyList(), addressBook.findPersonsByNameWords(Collections.singletonList("alic")));
+
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singletonList(ALICE), addressBook.findPersonsByNameWords(Arrays.asList("alice")));
+    }
+
+    @Test
+    public void findPerson_personInAddressBook_returnsPerson() {
+        addressBook.addPerson(ALICE);
+        assertEquals(Optional.of(ALICE), addressBook.findPerson(ALICE.getName()));
+        assertFalse(addressBook.findPerson(new PersonBuilder().withName("Nobody").build().getName()).isPresent());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
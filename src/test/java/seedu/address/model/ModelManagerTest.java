@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalGroups.LAB10;
 import static seedu.address.testutil.TypicalGroups.TUT04;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -12,12 +13,16 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -110,6 +115,108 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFilteredGroupMemberList_followsMembersAndFilter() {
+        List<Person> members = modelManager.getFilteredGroupMemberList(TUT04);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON), members);
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertEquals(Arrays.asList(BENSON), members);
+
+        Person movedBenson = new PersonBuilder(BENSON).withGroups(LAB10.groupName).build();
+        modelManager.setPerson(BENSON, movedBenson);
+        assertEquals(Collections.emptyList(), members);
+        assertEquals(Arrays.asList(movedBenson), modelManager.getFilteredGroupMemberList(LAB10));
+    }
+
+    @Test
+    public void updateFilteredPersonList_nameKeywords_keepsFilteringEditedPersons() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("PAUL", "nobody")));
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredPersonList());
+
+        // persons edited after the search are tested against the keywords
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Paula Meier").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(editedAlice, renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_eachKindOfChange_restoresPreviousAddressBook() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addGroup(TUT04);
+        modelManager.commitAddressBook();
+        AddressBook original = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.setPerson(BENSON, new PersonBuilder(BENSON).withPhone("99999999").build());
+        modelManager.commitAddressBook();
+        modelManager.deleteGroup(TUT04);
+        modelManager.addGroup(LAB10);
+        modelManager.commitAddressBook();
+        modelManager.setAddressBook(new AddressBook());
+        modelManager.commitAddressBook();
+        AddressBook latest = new AddressBook(modelManager.getAddressBook());
+
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(original, new AddressBook(modelManager.getAddressBook()));
+
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        modelManager.redoAddressBook();
+        assertEquals(latest, new AddressBook(modelManager.getAddressBook()));
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_deletedPerson_restoredToItsPosition() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(ALICE);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void commitAddressBook_afterUndo_discardsRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        // a command without changes keeps the redo history
+        modelManager.commitAddressBook();
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_moreCommandsThanHistoryHolds_forgetsOldestCommands() {
+        for (int i = 0; i <= AddressBookHistory.MAX_COMMAND_COUNT; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Person " + i).build());
+            modelManager.commitAddressBook();
+        }
+        for (int i = 0; i < AddressBookHistory.MAX_COMMAND_COUNT; i++) {
+            modelManager.undoAddressBook();
+        }
+        assertFalse(modelManager.canUndoAddressBook());
+        assertEquals(1, modelManager.getAddressBook().getPersonList().size());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,9 +1,14 @@
 package seedu.address.model.group;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.jupiter.api.Test;
 
 public class GroupTest {
@@ -37,6 +42,78 @@ public class GroupTest {
         assertFalse(Group.isValidLink("a"));
     }
 
+    @Test
+    public void constructor_invalidAttendance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Group("TUT01", Arrays.asList("P", "late")));
+        assertThrows(IllegalArgumentException.class, () -> new Group("TUT01",
+                Collections.nCopies(Group.MAX_WEEK_COUNT + 1, "_")));
+    }
+
+    @Test
+    public void isValidAttendanceList() {
+        assertTrue(Group.isValidAttendanceList(Collections.emptyList()));
+        assertTrue(Group.isValidAttendanceList(Arrays.asList("_", "A", "P")));
+        assertTrue(Group.isValidAttendanceList(Collections.nCopies(Group.MAX_WEEK_COUNT, "P")));
+        assertFalse(Group.isValidAttendanceList(Arrays.asList("A", "p")));
+        assertFalse(Group.isValidAttendanceList(Arrays.asList("A", null)));
+    }
+
+    @Test
+    public void withAttendance_validWeeks_updatesQueries() {
+        Group unmarked = new Group("TUT01");
+        assertEquals(Collections.nCopies(Group.DEFAULT_WEEK_COUNT, "_"), unmarked.getAttendanceList());
+        assertEquals(0x1FFF, unmarked.getUnmarkedWeeksMask());
+
+        Group group = unmarked.withAttendance(1, "P")
+                .withAttendance(3, "P")
+                .withAttendance(13, "A")
+                .withAttendance(3, "A"); // overwrites present
+
+        assertEquals("P", group.getAttendance(1));
+        assertEquals("_", group.getAttendance(2));
+        assertEquals("A", group.getAttendance(3));
+        assertEquals(1, group.getPresentCount());
+        assertEquals(2, group.getAbsentCount());
+        assertEquals(0b1_0000_0000_0100, group.getAbsentWeeksMask());
+        assertEquals(0b0_1111_1111_1010, group.getUnmarkedWeeksMask());
+        assertEquals(Arrays.asList("P", "_", "A", "_", "_", "_", "_", "_", "_", "_", "_", "_", "A"),
+                group.getAttendanceList());
+    }
+
+    @Test
+    public void withAttendance_invalidWeekOrValue_throwsException() {
+        Group group = new Group("TUT01");
+        assertThrows(IndexOutOfBoundsException.class, () -> group.withAttendance(0, "P"));
+        assertThrows(IndexOutOfBoundsException.class, () -> group.withAttendance(14, "P"));
+        assertThrows(IllegalArgumentException.class, () -> group.withAttendance(1, "X"));
+    }
+
+    @Test
+    public void withAttendance_leavesOriginalUnchanged() {
+        Group group = new Group("TUT01", Arrays.asList("_", "_"));
+        Group marked = group.withAttendance(2, "P");
+        assertEquals("_", group.getAttendance(2));
+        assertEquals("P", marked.getAttendance(2));
+        assertEquals(group.getWeekCount(), marked.getWeekCount());
+        assertSame(group.groupName, marked.groupName);
+    }
+
+    @Test
+    public void getAttendanceList_maxWeeks_roundTrips() {
+        Group group = new Group("TUT01", Collections.nCopies(Group.MAX_WEEK_COUNT, "_"))
+                .withAttendance(Group.MAX_WEEK_COUNT, "P");
+        assertEquals(0, group.getPresentWeeksMask() & ~(1 << 31));
+        assertEquals("P", new Group("TUT01", group.getAttendanceList()).getAttendance(Group.MAX_WEEK_COUNT));
+        assertEquals(~(1 << 31), group.getUnmarkedWeeksMask());
+    }
+
+    @Test
+    public void constructor_sameName_sharesNameString() {
+        String name = new String("TUT04");
+        assertSame(new Group("TUT04").groupName, new Group(name).groupName);
+        assertSame(new Group("TUT04").groupName, new Group(name, "https://t.me/tut04").groupName);
+    }
+
     @Test
     public void isSameGroup() {
         Group group = new Group("TUT01");
@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.group.exceptions.DuplicateGroupException;
@@ -39,6 +40,32 @@ public class UniqueGroupListTest {
         assertTrue(uniqueGroupList.contains(TUT04));
     }
 
+    @Test
+    public void find_groupInList_returnsGroupWithLink() {
+        Group linkedGroup = new Group(TUT04.groupName, "https://t.me/tut04");
+        uniqueGroupList.add(LAB10);
+        uniqueGroupList.add(TUT04);
+        uniqueGroupList.setGroup(TUT04, linkedGroup);
+        assertEquals("https://t.me/tut04", uniqueGroupList.find(TUT04.groupName).get().telegramLink);
+        assertEquals(LAB10, uniqueGroupList.find(LAB10.groupName).get());
+    }
+
+    @Test
+    public void find_removedGroup_returnsEmpty() {
+        uniqueGroupList.add(TUT04);
+        uniqueGroupList.remove(TUT04);
+        assertFalse(uniqueGroupList.find(TUT04.groupName).isPresent());
+        assertFalse(uniqueGroupList.contains(TUT04));
+    }
+
+    @Test
+    public void find_afterSetGroups_findsOnlyReplacementGroups() {
+        uniqueGroupList.add(TUT04);
+        uniqueGroupList.setGroups(Collections.singletonList(LAB10));
+        assertFalse(uniqueGroupList.find(TUT04.groupName).isPresent());
+        assertTrue(uniqueGroupList.find(LAB10.groupName).isPresent());
+    }
+
     @Test
     public void add_nullGroup_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueGroupList.add(null));
@@ -103,7 +130,7 @@ public class UniqueGroupListTest {
     @Test
     public void remove_existingGroup_removesGroup() {
         uniqueGroupList.add(TUT04);
-        uniqueGroupList.remove(TUT04);
+        assertEquals(0, uniqueGroupList.remove(TUT04));
         UniqueGroupList expectedUniqueGroupList = new UniqueGroupList();
         assertEquals(expectedUniqueGroupList, uniqueGroupList);
     }
@@ -143,6 +170,15 @@ public class UniqueGroupListTest {
         assertThrows(DuplicateGroupException.class, () -> uniqueGroupList.setGroups(listWithDuplicateGroups));
     }
 
+    @Test
+    public void setGroups_listWithDuplicateGroups_reportsEveryDuplicate() {
+        Group otherTut04 = new Group(TUT04.groupName, "https://t.me/tut04");
+        List<Group> listWithDuplicateGroups = Arrays.asList(TUT04, LAB10, otherTut04, LAB10);
+        DuplicateGroupException thrown = Assertions.assertThrows(DuplicateGroupException.class, () ->
+                uniqueGroupList.setGroups(listWithDuplicateGroups));
+        assertEquals(Arrays.asList(otherTut04, LAB10), thrown.getDuplicates());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
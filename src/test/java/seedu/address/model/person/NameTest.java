@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -38,6 +41,17 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void hasWordStartingWith() {
+        Name name = new Name("Peter  jack Peter 2nd");
+        assertEquals(Arrays.asList("peter", "jack", "2nd"), name.getLowerCaseWords());
+        assertTrue(name.hasWordStartingWith("pet"));
+        assertTrue(name.hasWordStartingWith("jack"));
+        assertTrue(name.hasWordStartingWith("2"));
+        assertFalse(name.hasWordStartingWith("eter"));
+        assertFalse(name.hasWordStartingWith("jackson"));
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -15,6 +15,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.group.Group;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -126,6 +127,25 @@ public class PersonTest {
         assertFalse(ALICE.hashCode() == editedAlice.hashCode());
     }
 
+    @Test
+    public void withGroup_groupOfPerson_replacesOnlyThatGroup() {
+        Person person = new PersonBuilder().withGroups("TUT04", "LAB10").build();
+        Group markedGroup = new Group("TUT04").withAttendance(1, Group.PRESENT);
+
+        Person markedPerson = person.withGroup(markedGroup);
+
+        assertEquals(person, markedPerson);
+        assertEquals(Group.PRESENT, markedPerson.getMatchingGroup(markedGroup).getAttendance(1));
+        assertEquals(Group.UNMARKED, person.getMatchingGroup(markedGroup).getAttendance(1));
+        assertEquals(person.getGroups().size(), markedPerson.getGroups().size());
+    }
+
+    @Test
+    public void withGroup_groupNotOfPerson_throwsIllegalArgumentException() {
+        Person person = new PersonBuilder().withGroups("TUT04").build();
+        assertThrows(IllegalArgumentException.class, () -> person.withGroup(new Group("LAB10")));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
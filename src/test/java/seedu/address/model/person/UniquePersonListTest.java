@@ -11,8 +11,11 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -47,6 +50,35 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedWithDifferentIdentity_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_reflectsReplacementList() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -73,6 +105,13 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(ALICE, ALICE));
     }
 
+    @Test
+    public void setPerson_targetWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void setPerson_editedPersonIsSamePerson_success() {
         uniquePersonList.add(ALICE);
@@ -119,14 +158,59 @@ public class UniquePersonListTest {
         assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(ALICE));
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void remove_existingPerson_removesPerson() {
         uniquePersonList.add(ALICE);
-        uniquePersonList.remove(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(1, uniquePersonList.remove(BOB));
+        assertEquals(0, uniquePersonList.remove(ALICE));
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(Arrays.asList(ALICE, BOB)));
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void removeAll_samePersonWithDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.removeAll(
+                Arrays.asList(BOB, editedAlice)));
+
+        // neither the list nor its name index is changed
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertEquals(ALICE, uniquePersonList.find(ALICE.getName()).get());
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesOnlyThem() {
+        Person carl = new PersonBuilder().withName("Carl Kurz").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(carl);
+        uniquePersonList.add(BOB);
+        uniquePersonList.removeAll(Arrays.asList(BOB, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(carl);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +246,51 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePersons_reportsEveryDuplicate() {
+        Person editedBob = new PersonBuilder(BOB).withMajor(VALID_MAJOR_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, ALICE, editedBob);
+        DuplicatePersonException thrown = Assertions.assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertEquals(Arrays.asList(ALICE, editedBob), thrown.getDuplicates());
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_map_replacesInPlace() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withMajor(VALID_MAJOR_BOB).build();
+        Person renamedBob = new PersonBuilder(BOB).withName("Bobby").build();
+        Map<Person, Person> editedPersons = new HashMap<>();
+        editedPersons.put(ALICE, editedAlice);
+        editedPersons.put(BOB, renamedBob);
+
+        uniquePersonList.setPersons(editedPersons);
+
+        assertEquals(Arrays.asList(editedAlice, renamedBob), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(renamedBob));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void setPersons_mapWithTargetNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () ->
+                uniquePersonList.setPersons(Collections.singletonMap(BOB, BOB)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_mapWithEditedPersonClashing_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person bobAsAlice = new PersonBuilder(BOB).withName(ALICE.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Collections.singletonMap(BOB, bobAsAlice)));
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookFormatConverterTest {
+
+    private static final Path TYPICAL_PERSONS_FILE = Paths.get("src", "test", "data",
+            "JsonSerializableAddressBookTest", "typicalPersonsAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_returnsMatchingStorage() {
+        Path filePath = testFolder.resolve("ab");
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, StorageFormat.JSON, FsyncPolicy.NEVER)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(filePath, StorageFormat.BINARY, FsyncPolicy.NEVER)
+                instanceof BinaryAddressBookStorage);
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path secondBinaryPath = testFolder.resolve("second.bin");
+        Path secondJsonPath = testFolder.resolve("second.json");
+
+        AddressBookFormatConverter.convert(TYPICAL_PERSONS_FILE, StorageFormat.JSON, binaryPath, StorageFormat.BINARY);
+        AddressBookFormatConverter.convert(binaryPath, StorageFormat.BINARY, jsonPath, StorageFormat.JSON);
+        AddressBookFormatConverter.convert(jsonPath, StorageFormat.JSON, secondBinaryPath, StorageFormat.BINARY);
+        AddressBookFormatConverter.convert(secondBinaryPath, StorageFormat.BINARY, secondJsonPath,
+                StorageFormat.JSON);
+
+        assertEquals(TypicalPersons.getTypicalAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(binaryPath).readAddressBook().get()));
+        assertEquals(new String(Files.readAllBytes(jsonPath)), new String(Files.readAllBytes(secondJsonPath)));
+        assertEquals(new String(Files.readAllBytes(binaryPath), "ISO-8859-1"),
+                new String(Files.readAllBytes(secondBinaryPath), "ISO-8859-1"));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                testFolder.resolve("missing.json"), StorageFormat.JSON,
+                testFolder.resolve("target.bin"), StorageFormat.BINARY));
+    }
+
+}
@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("ab")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addGroup(new Group("TUT99", "https://t.me/tut99"));
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_markedAttendance_preserved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Person unmarked = new PersonBuilder().withName("Marked Student").withGroups("TUT04").build();
+        Person marked = unmarked.withGroup(new Group("TUT04").withAttendance(2, "P").withAttendance(13, "A"));
+        List<String> shortTerm = Arrays.asList("P", "_", "A");
+        Person shortTermPerson = new PersonBuilder().withName("Short Term Student").build();
+        shortTermPerson = new Person(shortTermPerson.getName(), shortTermPerson.getPhone(), shortTermPerson.getEmail(),
+                shortTermPerson.getYear(), shortTermPerson.getTelegram(), shortTermPerson.getMajor(),
+                shortTermPerson.getRemark(), Collections.singleton(new Group("LAB10", shortTerm)));
+        AddressBook original = new AddressBook();
+        original.addPerson(marked);
+        original.addPerson(shortTermPerson);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        assertEquals(marked.getGroups().iterator().next().getAttendanceList(),
+                readBack.getPersonList().get(0).getGroups().iterator().next().getAttendanceList());
+        assertEquals(shortTerm, readBack.getPersonList().get(1).getGroups().iterator().next().getAttendanceList());
+    }
+
+    @Test
+    public void saveAddressBook_remarkLongerThan64Kilobytes_preserved() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        Person person = new PersonBuilder().withRemark("\u00e9".repeat(40_000) + "end").build();
+        AddressBook original = new AddressBook();
+        original.addPerson(person);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_firstFormatVersion_success() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.bin");
+        try (DataOutputStream data = new DataOutputStream(Files.newOutputStream(filePath))) {
+            data.writeInt(BinaryAddressBookStream.MAGIC);
+            data.writeShort(BinaryAddressBookStream.FIRST_FORMAT_VERSION);
+            data.writeByte(1); // string table
+            data.writeUTF(PersonBuilder.DEFAULT_MAJOR);
+            data.writeByte(0); // groups
+            data.writeByte(1); // persons
+            data.writeUTF(PersonBuilder.DEFAULT_NAME);
+            data.writeUTF(PersonBuilder.DEFAULT_PHONE);
+            data.writeUTF(PersonBuilder.DEFAULT_EMAIL);
+            data.writeUTF(PersonBuilder.DEFAULT_YEAR);
+            data.writeUTF(PersonBuilder.DEFAULT_TELEGRAM);
+            data.writeByte(0); // major
+            data.writeUTF(PersonBuilder.DEFAULT_REMARK);
+            data.writeByte(0); // groups of the person
+        }
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(Collections.singletonList(new PersonBuilder().withGroups().build()), readBack.getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_muchSmallerThanJson() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        Path binaryPath = testFolder.resolve("addressbook.bin");
+        new JsonAddressBookStorage(jsonPath).saveAddressBook(original);
+        new BinaryAddressBookStorage(binaryPath).saveAddressBook(original);
+
+        assertTrue(Files.size(binaryPath) * 3 < Files.size(jsonPath));
+    }
+
+}
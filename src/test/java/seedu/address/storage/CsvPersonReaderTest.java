@@ -0,0 +1,124 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class CsvPersonReaderTest {
+
+    private static final String HEADER = "name,phone,email,year,major,telegram,remark,groups";
+
+    @TempDir
+    public Path testFolder;
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path filePath = testFolder.resolve("students.csv");
+        Files.write(filePath, Arrays.asList(lines));
+        return filePath;
+    }
+
+    @Test
+    public void read_missingFile_throwsNoSuchFileException() {
+        assertThrows(NoSuchFileException.class, () ->
+                CsvPersonReader.read(testFolder.resolve("missing.csv"), person -> null));
+    }
+
+    @Test
+    public void read_validRows_returnsPersonsInOrder() throws Exception {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,85355255,amy@gmail.com,1,Computer Science,amy123,\"shy, but keen\",TUT04 LAB10",
+                "",
+                "Bob Choo,22222222,bob@example.com,2,Mathematics,bobchoo,,");
+
+        List<Person> expected = Arrays.asList(
+                new PersonBuilder().withRemark("shy, but keen").withGroups("TUT04", "LAB10").build(),
+                new PersonBuilder().withName("Bob Choo").withPhone("22222222").withEmail("bob@example.com")
+                        .withYear("2").withMajor("Mathematics").withTelegram("bobchoo").withRemark("")
+                        .withGroups().build());
+        assertEquals(expected, CsvPersonReader.read(filePath, person -> null));
+    }
+
+    @Test
+    public void read_reorderedColumnsWithoutOptionalOnes_returnsPersons() throws Exception {
+        Path filePath = writeCsv("Telegram,Name,Phone,Email,Year,Major",
+                "amy123,Amy Bee,85355255,amy@gmail.com,1,Computer Science");
+
+        Person person = CsvPersonReader.read(filePath, unused -> null).get(0);
+        assertEquals(new PersonBuilder().withRemark("").withGroups().build(), person);
+    }
+
+    @Test
+    public void read_invalidRows_reportsEveryRowWithLineNumber() throws IOException {
+        Path filePath = writeCsv(HEADER,
+                "Amy Bee,85355255,amy@gmail.com,1,Computer Science,amy123,,TUT04",
+                "Bob Choo,+65,bob@example.com,2,Mathematics,bobchoo,,",
+                "",
+                "Carl Kurz,33333333,carl@example.com,2",
+                "Amy Bee,44444444,amy2@gmail.com,1,Computer Science,amy456,,",
+                "\"Dan Lee,55555555,dan@example.com,1,Physics,danlee,,",
+                "Elle Meyer,66666666,elle@example.com,3,Physics,elle,,REC01");
+
+        String rejection = "Group REC01 is not in the address book.";
+        String expectedMessage = String.join("\n",
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_LINE, 3, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_LINE, 5,
+                        String.format(CsvPersonReader.MESSAGE_FIELD_COUNT, 8, 4)),
+                String.format(ParallelPersonConverter.MESSAGE_DUPLICATE_LINE, 6,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, 2),
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_LINE, 7, CsvPersonReader.MESSAGE_UNCLOSED_QUOTE),
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_LINE, 8, rejection));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> CsvPersonReader.read(filePath, person ->
+                person.hasGroup(new Group("REC01")) ? rejection : null));
+    }
+
+    @Test
+    public void read_manyRows_convertsEveryBatch() throws Exception {
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        int rowCount = ParallelPersonConverter.BATCH_SIZE + 3;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Person " + i + "," + (100000 + i) + ",p" + i + "@example.com,1,Computer Science,person" + i
+                    + ",,");
+        }
+        Path filePath = writeCsv(lines.toArray(new String[0]));
+
+        List<Person> persons = CsvPersonReader.read(filePath, person -> null);
+        assertEquals(rowCount, persons.size());
+        assertEquals("Person " + (rowCount - 1), persons.get(rowCount - 1).getName().fullName);
+    }
+
+    @Test
+    public void read_invalidHeader_throwsIllegalValueException() throws IOException {
+        assertThrows(IllegalValueException.class, CsvPersonReader.MESSAGE_MISSING_HEADER, () ->
+                CsvPersonReader.read(writeCsv(""), person -> null));
+        assertThrows(IllegalValueException.class, String.format(CsvPersonReader.MESSAGE_MISSING_COLUMN, "telegram"), ()
+            -> CsvPersonReader.read(writeCsv("name,phone,email,year,major"), person -> null));
+        assertThrows(IllegalValueException.class, String.format(CsvPersonReader.MESSAGE_UNKNOWN_COLUMN, "age"), ()
+            -> CsvPersonReader.read(writeCsv(HEADER + ",age"), person -> null));
+        assertThrows(IllegalValueException.class, String.format(CsvPersonReader.MESSAGE_REPEATED_COLUMN, "Name"), ()
+            -> CsvPersonReader.read(writeCsv(HEADER + ",Name"), person -> null));
+    }
+
+    @Test
+    public void parseLine_quotedFields_unquotesAndTrims() throws Exception {
+        assertEquals(Arrays.asList("a", "b, c", "say \"hi\"", ""),
+                CsvPersonReader.parseLine(" a ,\"b, c\", \"say \"\"hi\"\"\" ,"));
+    }
+
+}
@@ -0,0 +1,198 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.FsyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath() {
+        return testFolder.resolve("addressBook.json");
+    }
+
+    private Path journalFilePath() {
+        return JournalAddressBookStorage.getJournalFilePath(filePath());
+    }
+
+    private JournalAddressBookStorage createStorage(int compactionThreshold) {
+        return new JournalAddressBookStorage(new JsonAddressBookStorage(filePath()), FsyncPolicy.ALWAYS,
+                compactionThreshold);
+    }
+
+    /**
+     * Returns a typical address book that has been saved as a snapshot through {@code storage}.
+     */
+    private AddressBook saveTypicalSnapshot(JournalAddressBookStorage storage) throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.markChangesSaved();
+        return original;
+    }
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createStorage(0));
+    }
+
+    @Test
+    public void saveAddressBookChanges_noSnapshot_writesSnapshot() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+
+        assertTrue(Files.exists(filePath()));
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterSnapshot_appendsOnlyChanges() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = saveTypicalSnapshot(storage);
+        String snapshot = new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        original.addPerson(HOON);
+        original.setPerson(ALICE, editedAlice);
+        original.removePerson(HOON);
+        original.addPerson(IDA);
+        original.addGroup(new Group("TUT99"));
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+
+        // the snapshot is left untouched, one journal line is written per change after the header
+        assertEquals(snapshot, new String(Files.readAllBytes(filePath()), StandardCharsets.UTF_8));
+        assertEquals(6, Files.readAllLines(journalFilePath()).size());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_thresholdExceeded_compactsJournal() throws Exception {
+        JournalAddressBookStorage storage = createStorage(2);
+        AddressBook original = saveTypicalSnapshot(storage);
+
+        original.addPerson(HOON);
+        original.addPerson(IDA);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+        assertTrue(Files.exists(journalFilePath()));
+
+        original.removePerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_reset_compactsJournal() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = saveTypicalSnapshot(storage);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+
+        original.resetData(new AddressBook());
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresEntry() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = saveTypicalSnapshot(storage);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+
+        Files.write(journalFilePath(), "{\"type\":\"ADD_PERSON\",\"per".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the next save must not append to the partial entry
+        JournalAddressBookStorage reopenedStorage =
+                createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalOlderThanSnapshot_ignoresJournal() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = saveTypicalSnapshot(storage);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+
+        // a crash after writing the new snapshot but before discarding the journal leaves both behind
+        new JsonAddressBookStorage(filePath()).saveAddressBook(original);
+        assertTrue(Files.exists(journalFilePath()));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // the stale journal is compacted away instead of being appended to
+        JournalAddressBookStorage reopenedStorage =
+                createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        original.addPerson(IDA);
+        reopenedStorage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        assertFalse(Files.exists(journalFilePath()));
+        assertEquals(original, new AddressBook(reopenedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteEntryBeforeLast_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook original = saveTypicalSnapshot(storage);
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+
+        Files.write(journalFilePath(), "{\"type\":\"ADD_PERSON\",\"per\n{}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_entryForMissingPerson_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        saveTypicalSnapshot(storage);
+        AddressBook other = new AddressBook();
+        other.addPerson(HOON);
+        other.markChangesSaved();
+        other.removePerson(HOON);
+
+        storage.saveAddressBookChanges(other, other.getUnsavedChanges());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_journalWithoutSnapshot_emptyResult() throws Exception {
+        Files.write(journalFilePath(), "{\"type\":\"REMOVE_PERSON\"}\n".getBytes(StandardCharsets.UTF_8));
+        JournalAddressBookStorage storage = createStorage(JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+}
@@ -11,6 +11,9 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +21,7 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +90,28 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBookInPages_typicalAddressBook_pagesMakeUpPersonList() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<Person> pagedPersons = new ArrayList<>();
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBookInPages(pagedPersons::addAll).get();
+        assertEquals(original.getPersonList(), pagedPersons);
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBookInPages_invalidPerson_noPagesHandedOver() {
+        List<Person> pagedPersons = new ArrayList<>();
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(
+                addToTestDataPathIfNotNull("invalidAndValidPersonAddressBook.json"))
+                .readAddressBookInPages(pagedPersons::addAll));
+        assertEquals(Collections.emptyList(), pagedPersons);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
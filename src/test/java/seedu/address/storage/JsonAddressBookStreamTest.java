@@ -0,0 +1,87 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.TypicalGroups;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path TYPICAL_GROUPS_FILE = TEST_DATA_FOLDER.resolve("typicalGroupsAddressBook.json");
+
+    private static AddressBook readAddressBook(Path file) throws Exception {
+        try (InputStream in = Files.newInputStream(file)) {
+            return JsonAddressBookStream.readAddressBook(in);
+        }
+    }
+
+    private static AddressBook readAddressBook(String json) throws Exception {
+        return JsonAddressBookStream.readAddressBook(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void readAddressBook_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), readAddressBook(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    public void readAddressBook_typicalGroupsFile_success() throws Exception {
+        assertEquals(TypicalGroups.getTypicalAddressBook(), readAddressBook(TYPICAL_GROUPS_FILE));
+    }
+
+    @Test
+    public void readAddressBook_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> readAddressBook(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsIllegalValueException() {
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_DUPLICATE_RECORD, 2,
+                JsonAddressBookStream.MESSAGE_DUPLICATE_PERSON, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                readAddressBook(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void readAddressBook_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () -> readAddressBook("[]"));
+        assertThrows(IOException.class, () -> readAddressBook(""));
+    }
+
+    @Test
+    public void readAddressBook_unknownFields_ignored() throws Exception {
+        assertEquals(new AddressBook(), readAddressBook("{\"version\": {\"major\": 1}, \"persons\": []}"));
+    }
+
+    @Test
+    public void writeAddressBook_typicalAddressBook_readableAsSerializableAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JsonAddressBookStream.writeAddressBook(original, out);
+
+        String json = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), json);
+        assertEquals(original, readAddressBook(json));
+    }
+
+}
@@ -42,7 +42,9 @@ public class JsonSerializableAddressBookTest {
     public void toModelType_duplicatePersons_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_PERSON_FILE,
                 JsonSerializableAddressBook.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+        String expectedMessage = String.format(ParallelPersonConverter.MESSAGE_DUPLICATE_RECORD, 2,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, 1);
+        assertThrows(IllegalValueException.class, expectedMessage,
                 dataFromFile::toModelType);
     }
 
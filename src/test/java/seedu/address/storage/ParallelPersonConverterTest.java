@@ -0,0 +1,65 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
+
+public class ParallelPersonConverterTest {
+
+    private static final int RECORD_COUNT = ParallelPersonConverter.BATCH_SIZE * 2 + 7;
+
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(100000 + i)).build());
+        }
+        return persons;
+    }
+
+    private static JsonAdaptedPerson withPhone(Person person, String phone) {
+        return new JsonAdaptedPerson(person.getName().fullName, phone, person.getEmail().value,
+                person.getYear().value, person.getTelegram().value, person.getMajor().value,
+                person.getRemark().value, Collections.emptyList());
+    }
+
+    @Test
+    public void convert_manyBatches_preservesOrder() throws Exception {
+        List<Person> persons = createPersons(RECORD_COUNT);
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+
+        assertEquals(persons, ParallelPersonConverter.convert(adaptedPersons));
+    }
+
+    @Test
+    public void convert_invalidAndDuplicateRecords_reportsAllWithPositions() {
+        List<Person> persons = createPersons(RECORD_COUNT);
+        List<JsonAdaptedPerson> adaptedPersons = new ArrayList<>();
+        persons.forEach(person -> adaptedPersons.add(new JsonAdaptedPerson(person)));
+        adaptedPersons.set(2, withPhone(persons.get(2), "+65"));
+        adaptedPersons.set(RECORD_COUNT - 1, new JsonAdaptedPerson(persons.get(0)));
+        adaptedPersons.set(ParallelPersonConverter.BATCH_SIZE, new JsonAdaptedPerson(null, "123", "a@b.co",
+                "1", "handle", "Computer Science", "", Collections.emptyList()));
+
+        String expectedMessage = String.join("\n",
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_RECORD, 3, Phone.MESSAGE_CONSTRAINTS),
+                String.format(ParallelPersonConverter.MESSAGE_INVALID_RECORD, ParallelPersonConverter.BATCH_SIZE + 1,
+                        String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName())),
+                String.format(ParallelPersonConverter.MESSAGE_DUPLICATE_RECORD, RECORD_COUNT,
+                        JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, 1));
+        assertThrows(IllegalValueException.class, expectedMessage, () ->
+                ParallelPersonConverter.convert(adaptedPersons));
+    }
+
+}
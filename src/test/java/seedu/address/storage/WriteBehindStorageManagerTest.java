@@ -0,0 +1,149 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalAddressBook.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<IOException> failures = new ArrayList<>();
+
+    private WriteBehindStorageManager createStorage(AddressBookStorage addressBookStorage) {
+        StorageManager storageManager = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        return new WriteBehindStorageManager(storageManager, failures::add);
+    }
+
+    @Test
+    public void saveAddressBookChanges_afterFlush_readsLatestData() throws Exception {
+        WriteBehindStorageManager storage =
+                createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+
+        // reading waits for pending saves
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_writerBusy_coalescesSaves() throws Exception {
+        BlockingAddressBookStorage addressBookStorage = new BlockingAddressBookStorage(testFolder.resolve("ab"));
+        WriteBehindStorageManager storage = createStorage(addressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+        original.markChangesSaved();
+
+        original.addPerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+        addressBookStorage.firstWriteStarted.await();
+
+        // both saves are requested while the first write is still in progress
+        original.addPerson(IDA);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        original.markChangesSaved();
+        original.removePerson(HOON);
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        addressBookStorage.releaseFirstWrite.countDown();
+        storage.flush();
+
+        assertEquals(2, addressBookStorage.writtenChanges.size());
+        assertEquals(Arrays.asList(AddressBookChange.addPerson(IDA), AddressBookChange.removePerson(HOON)),
+                addressBookStorage.writtenChanges.get(1));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBookChanges_writeFails_reportsFailureAndRetries() throws Exception {
+        IOException failure = new IOException("disk full");
+        FailingAddressBookStorage addressBookStorage = new FailingAddressBookStorage(testFolder.resolve("ab"));
+        addressBookStorage.failure = failure;
+        WriteBehindStorageManager storage = createStorage(addressBookStorage);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBookChanges(original, original.getUnsavedChanges());
+        storage.flush();
+        assertEquals(Arrays.asList(failure), failures);
+
+        addressBookStorage.failure = null;
+        storage.flush();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_nothingPending_returns() throws Exception {
+        WriteBehindStorageManager storage =
+                createStorage(new JsonAddressBookStorage(testFolder.resolve("ab")));
+        storage.flush();
+        assertTrue(failures.isEmpty());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the changes it writes and holds its first write
+     * until {@code releaseFirstWrite} is counted down.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        private final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+        private final List<List<AddressBookChange>> writtenChanges = new ArrayList<>();
+
+        BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                throws IOException {
+            writtenChanges.add(changes);
+            firstWriteStarted.countDown();
+            try {
+                releaseFirstWrite.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.saveAddressBookChanges(addressBook, changes);
+        }
+    }
+
+    /**
+     * An {@code AddressBookStorage} that throws {@code failure} on every write while it is set.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private volatile IOException failure;
+
+        FailingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBookChanges(ReadOnlyAddressBook addressBook, List<AddressBookChange> changes)
+                throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            super.saveAddressBookChanges(addressBook, changes);
+        }
+    }
+
+}